@@ -0,0 +1,50 @@
+package io.github.tato126.practice.common.handler;
+
+import io.github.tato126.practice.common.dto.ErrorResponse;
+import io.github.tato126.practice.common.excetion.post.PostNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예외 처리 시 ErrorResponse 생성 비용을 측정합니다.
+ * <p>
+ * 핸들러의 로그 출력은 src/jmh/resources/logback.xml에서 꺼 두어 I/O 비용은 제외됩니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private PostNotFoundException exception;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        exception = new PostNotFoundException("포스트를 찾을 수 없습니다. ID: 1");
+    }
+
+    @Benchmark
+    public ErrorResponse errorResponseOf() {
+        return ErrorResponse.of(exception.getMessage(), 404, "POST_NOT_FOUND");
+    }
+
+    @Benchmark
+    public ErrorResponse handlePostNotFound() {
+        return handler.handlePostNotFoundException(exception);
+    }
+
+    // 예외 생성(스택 트레이스 포함)부터 응답 생성까지
+    @Benchmark
+    public ErrorResponse throwAndHandlePostNotFound() {
+        return handler.handlePostNotFoundException(new PostNotFoundException("포스트를 찾을 수 없습니다. ID: 1"));
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.tato126.practice.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 토큰 생성과 검증(캐시 미적중/적중) 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-at-least-256-bits-long-for-hmac-sha";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 10_000L);
+        token = jwtUtil.generateAccessToken(1L, "user@example.com");
+        jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(1L, "user@example.com");
+    }
+
+    // 서명 검증 + JSON 파싱 (캐시 미적중 경로)
+    @Benchmark
+    public Claims validateTokenCold() {
+        return jwtUtil.verify(token);
+    }
+
+    // 다이제스트 계산 + 캐시 조회 (캐시 적중 경로)
+    @Benchmark
+    public Claims validateTokenCached() {
+        return jwtUtil.validateToken(token);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.tato126.practice.post.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 엔티티 → DTO 변환과 목록 페이지(20건) JSON 직렬화 비용을 측정합니다.
+ * <p>
+ * 본문 전체를 담은 목록(serializePage)과 요약 목록(serializeSummaryPage)을 비교하며,
+ * 각 페이지의 직렬화 크기는 시작 시 표준 출력으로 기록합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostResponseBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private Post post;
+    private Page<PostResponse> page;
+    private Page<PostSummaryResponse> summaryPage;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        User author = User.builder()
+                .email("author@example.com")
+                .username("author")
+                .password("encoded")
+                .build();
+        post = Post.builder()
+                .title("Spring Boot 시작하기")
+                .content("Spring Boot는 Java 기반의 강력한 프레임워크입니다.")
+                .author(author)
+                .status(Post.PostStatus.PUBLISHED)
+                .build();
+
+        // application.yml의 Jackson 설정과 동일하게 날짜를 ISO 문자열로 직렬화
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        String body = "내용 ".repeat(50);
+        List<PostResponse> content = new ArrayList<>(PAGE_SIZE);
+        List<PostSummaryResponse> summaries = new ArrayList<>(PAGE_SIZE);
+        for (long i = 0; i < PAGE_SIZE; i++) {
+            content.add(new PostResponse(i, "제목 " + i, body, 1L, "author",
+                    Post.PostStatus.PUBLISHED, 0L, now.minusMinutes(i), now.minusMinutes(i)));
+            summaries.add(new PostSummaryResponse(i, "제목 " + i, Post.excerptOf(body), 1L, "author",
+                    Post.PostStatus.PUBLISHED, now.minusMinutes(i), now.minusMinutes(i)));
+        }
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        page = new PageImpl<>(content, pageRequest, 1_000);
+        summaryPage = new PageImpl<>(summaries, pageRequest, 1_000);
+
+        try {
+            System.out.printf("Serialized page size: full=%d bytes, summary=%d bytes%n",
+                    objectMapper.writeValueAsBytes(page).length, objectMapper.writeValueAsBytes(summaryPage).length);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public PostResponse form() {
+        return PostResponse.form(post);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+}
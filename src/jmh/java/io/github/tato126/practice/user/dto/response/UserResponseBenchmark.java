@@ -0,0 +1,38 @@
+package io.github.tato126.practice.user.dto.response;
+
+import io.github.tato126.practice.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 엔티티 → DTO 변환 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserResponseBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .email("user@example.com")
+                .username("개발자123")
+                .password("encoded")
+                .bio("백엔드 개발자입니다.")
+                .build();
+    }
+
+    @Benchmark
+    public UserResponse form() {
+        return UserResponse.form(user);
+    }
+}
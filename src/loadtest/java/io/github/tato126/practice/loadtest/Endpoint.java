@@ -0,0 +1,157 @@
+package io.github.tato126.practice.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 부하 테스트 대상 엔드포인트입니다.
+ * <p>
+ * {@code load.mix}에서는 소문자와 하이픈 형태의 키(예: {@code list-deep})로 지정합니다.
+ * {@code reactive-*} 엔드포인트는 같은 요청을 논블로킹 조회 API(별도 포트)로 보냅니다.
+ * </p>
+ */
+enum Endpoint {
+
+    LOGIN {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            String body = "{\"email\":\"" + fixture.email(fixture.randomUser(random))
+                    + "\",\"password\":\"" + LoadTestFixture.PASSWORD + "\"}";
+            return json(baseUri.resolve("/api/auth/login"))
+                    .POST(BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+
+    LIST {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            return json(baseUri.resolve("/api/posts?page=0&size=" + LoadTestFixture.PAGE_SIZE))
+                    .GET()
+                    .build();
+        }
+    },
+
+    // OFFSET 방식의 가장 깊은 페이지
+    LIST_DEEP {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            return json(baseUri.resolve("/api/posts?page=" + fixture.lastPage() + "&size=" + LoadTestFixture.PAGE_SIZE))
+                    .GET()
+                    .build();
+        }
+    },
+
+    // 커서 방식의 첫 페이지
+    CURSOR {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            return json(baseUri.resolve("/api/posts/cursor?size=" + LoadTestFixture.PAGE_SIZE))
+                    .GET()
+                    .build();
+        }
+    },
+
+    // 커서 방식의 가장 깊은 페이지
+    CURSOR_DEEP {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            return json(baseUri.resolve("/api/posts/cursor?size=" + LoadTestFixture.PAGE_SIZE + "&cursor=" + fixture.deepCursor()))
+                    .GET()
+                    .build();
+        }
+    },
+
+    SEARCH {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            String query = URLEncoder.encode("부하 테스트 " + random.nextInt(100), StandardCharsets.UTF_8);
+            return json(baseUri.resolve("/api/posts/search?size=" + LoadTestFixture.PAGE_SIZE + "&q=" + query))
+                    .GET()
+                    .build();
+        }
+    },
+
+    DETAIL {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            return json(baseUri.resolve("/api/posts/" + fixture.randomPostId(random)))
+                    .GET()
+                    .build();
+        }
+    },
+
+    // 논블로킹 조회 API (reactive.port), LIST와 같은 페이지
+    REACTIVE_LIST(true) {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            return json(baseUri.resolve("/api/posts?page=0&size=" + LoadTestFixture.PAGE_SIZE))
+                    .GET()
+                    .build();
+        }
+    },
+
+    // 논블로킹 조회 API (reactive.port), DETAIL과 같은 게시글 분포
+    REACTIVE_DETAIL(true) {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            return json(baseUri.resolve("/api/posts/" + fixture.randomPostId(random)))
+                    .GET()
+                    .build();
+        }
+    },
+
+    WRITE {
+        @Override
+        HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random) {
+            int user = fixture.randomUser(random);
+            String body = "{\"title\":\"부하 테스트 작성\",\"content\":\"부하 테스트 중 작성된 게시글입니다.\"}";
+            return json(baseUri.resolve("/api/posts"))
+                    .header("Authorization", "Bearer " + fixture.tokens().get(user))
+                    .POST(BodyPublishers.ofString(body))
+                    .build();
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final boolean reactive;
+
+    Endpoint() {
+        this(false);
+    }
+
+    Endpoint(boolean reactive) {
+        this.reactive = reactive;
+    }
+
+    abstract HttpRequest request(URI baseUri, LoadTestFixture fixture, Random random);
+
+    /**
+     * 논블로킹 조회 API 서버로 보내는 엔드포인트인지 반환합니다.
+     */
+    boolean reactive() {
+        return reactive;
+    }
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    static Endpoint fromKey(String key) {
+        return valueOf(key.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    private static HttpRequest.Builder json(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+}
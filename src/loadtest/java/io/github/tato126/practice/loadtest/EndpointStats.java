@@ -0,0 +1,64 @@
+package io.github.tato126.practice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 히스토그램과 카운터입니다.
+ * <p>
+ * {@code latency}는 요청이 발생했어야 할 예정 시각부터 응답 완료까지를 기록하므로,
+ * 서버나 부하 생성기가 밀려 요청이 늦게 나간 시간까지 포함됩니다(coordinated omission 보정).
+ * {@code serviceTime}은 실제 전송 시각부터 측정한 값으로 비교용입니다.
+ * </p>
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toNanos(1);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    void record(long latencyNanos, long serviceTimeNanos, int status, int bodyBytes) {
+        latency.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE));
+        serviceTime.recordValue(Math.min(serviceTimeNanos, HIGHEST_TRACKABLE));
+        bytes.add(bodyBytes);
+        if (status >= 400) {
+            errors.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        latency.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE));
+        errors.increment();
+    }
+
+    long count() {
+        return latency.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long averageBytes() {
+        long count = serviceTime.getTotalCount();
+        return count == 0 ? 0 : bytes.sum() / count;
+    }
+
+    double latencyMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    double maxLatencyMillis() {
+        return latency.getMaxValue() / 1_000_000.0;
+    }
+
+    double serviceTimeMillis(double percentile) {
+        return serviceTime.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.tato126.practice.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 부하 테스트 설정입니다.
+ * <p>
+ * {@code load.*} 시스템 프로퍼티에서 읽으며, Gradle에서는 {@code -Pload.rate=500} 형태로 전달합니다.
+ * </p>
+ *
+ * @param rate     초당 목표 요청 수 (개방형 모델, 응답과 관계없이 일정한 간격으로 발생)
+ * @param warmup   측정에서 제외할 워밍업 시간
+ * @param duration 측정 시간
+ * @param users    적재할 사용자 수
+ * @param posts    적재할 발행 게시글 수
+ * @param mix      엔드포인트별 요청 비율
+ */
+record LoadTestConfig(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int users,
+        int posts,
+        Mix mix
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("load.rate", 200),
+                DurationStyle.detectAndParse(System.getProperty("load.warmup", "5s")),
+                DurationStyle.detectAndParse(System.getProperty("load.duration", "30s")),
+                Integer.getInteger("load.users", 20),
+                Integer.getInteger("load.posts", 5_000),
+                Mix.parse(System.getProperty("load.mix", "login:5,list:35,detail:50,write:10"))
+        );
+    }
+
+    /**
+     * 가중치에 따라 엔드포인트를 선택하는 요청 비율입니다.
+     *
+     * @param endpoints  대상 엔드포인트
+     * @param cumulative 누적 가중치
+     */
+    record Mix(Endpoint[] endpoints, int[] cumulative) {
+
+        /**
+         * {@code list:40,detail:50,write:10} 형식의 문자열을 파싱합니다.
+         */
+        static Mix parse(String value) {
+            String[] entries = value.split(",");
+            Endpoint[] endpoints = new Endpoint[entries.length];
+            int[] cumulative = new int[entries.length];
+            int total = 0;
+            for (int i = 0; i < entries.length; i++) {
+                String[] pair = entries[i].trim().split(":");
+                endpoints[i] = Endpoint.fromKey(pair[0]);
+                total += Integer.parseInt(pair[1]);
+                cumulative[i] = total;
+            }
+            return new Mix(endpoints, cumulative);
+        }
+
+        Endpoint pick(Random random) {
+            int point = random.nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (point < cumulative[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(endpoints) + " " + Arrays.toString(cumulative);
+        }
+    }
+}
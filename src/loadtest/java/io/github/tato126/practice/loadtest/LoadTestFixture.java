@@ -0,0 +1,118 @@
+package io.github.tato126.practice.loadtest;
+
+import io.github.tato126.practice.config.jwt.JwtUtil;
+import io.github.tato126.practice.post.dto.request.PostCursor;
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.post.event.PostsImportedEvent;
+import io.github.tato126.practice.post.repository.PostRepository;
+import io.github.tato126.practice.user.entity.User;
+import io.github.tato126.practice.user.repository.UserRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트에 사용할 적재 데이터입니다.
+ *
+ * @param emails     적재된 사용자 이메일
+ * @param tokens     사용자별 액세스 토큰 (emails와 같은 순서)
+ * @param postIds    적재된 발행 게시글 ID
+ * @param lastPage   목록 조회의 마지막 페이지 번호 (OFFSET 깊은 페이지)
+ * @param deepCursor 마지막 페이지를 가리키는 커서 (키셋 깊은 페이지)
+ */
+record LoadTestFixture(
+        List<String> emails,
+        List<String> tokens,
+        long[] postIds,
+        int lastPage,
+        String deepCursor
+) {
+
+    static final String PASSWORD = "password123!";
+    static final int PAGE_SIZE = 20;
+
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * 저장소 Bean을 직접 사용해 사용자와 발행 게시글을 적재합니다.
+     * <p>
+     * API로는 게시글을 발행 상태로 만들 수 없으므로 엔티티를 직접 저장하며,
+     * 토큰도 로그인 API 대신 JwtUtil로 발급해 적재 시간을 줄입니다.
+     * 시작 시 색인 재구축이 이미 끝난 뒤에 적재하므로, 청크마다 {@link PostsImportedEvent}를 발행해
+     * 검색 색인에 반영합니다. (그렇지 않으면 검색은 빈 색인을 대상으로 측정됩니다)
+     * </p>
+     */
+    static LoadTestFixture seed(ConfigurableApplicationContext context, int users, int posts) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<User> authors = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            authors.add(User.builder()
+                    .email("load" + i + "@example.com")
+                    .username("load" + i)
+                    .password(encodedPassword)
+                    .build());
+        }
+        authors = userRepository.saveAll(authors);
+
+        List<String> emails = authors.stream().map(User::getEmail).toList();
+        List<String> tokens = authors.stream()
+                .map(user -> jwtUtil.generateAccessToken(user.getId(), user.getEmail()))
+                .toList();
+
+        long[] postIds = new long[posts];
+        for (int from = 0; from < posts; from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + CHUNK_SIZE, posts);
+            List<User> chunkAuthors = authors;
+            List<Post> saved = transaction.execute(status -> {
+                List<Post> chunk = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    chunk.add(Post.builder()
+                            .title("부하 테스트 " + i)
+                            .content("부하 테스트용 게시글 본문입니다. ".repeat(8))
+                            .author(chunkAuthors.get(i % chunkAuthors.size()))
+                            .status(Post.PostStatus.PUBLISHED)
+                            .build());
+                }
+                List<Post> savedChunk = postRepository.saveAll(chunk);
+
+                // 일괄 가져오기와 같은 이벤트로 커밋 후 검색 색인/목록 버전에 반영
+                context.publishEvent(new PostsImportedEvent(savedChunk.stream().map(Post::getId).toList()));
+                return savedChunk;
+            });
+            for (int i = 0; i < saved.size(); i++) {
+                postIds[start + i] = saved.get(i).getId();
+            }
+        }
+
+        // 최신순 정렬에서 가장 깊은 페이지: 가장 먼저 적재된 게시글들
+        int lastPage = Math.max(posts - 1, 0) / PAGE_SIZE;
+        String deepCursor = postRepository.findResponseById(postIds[Math.min(PAGE_SIZE, posts - 1)])
+                .map(post -> new PostCursor(post.createdAt(), post.id()).encode())
+                .orElseThrow();
+
+        return new LoadTestFixture(emails, tokens, postIds, lastPage, deepCursor);
+    }
+
+    String email(int index) {
+        return emails.get(index);
+    }
+
+    int randomUser(Random random) {
+        return random.nextInt(emails.size());
+    }
+
+    long randomPostId(Random random) {
+        return postIds[random.nextInt(postIds.length)];
+    }
+}
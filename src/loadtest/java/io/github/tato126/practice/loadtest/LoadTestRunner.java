@@ -0,0 +1,157 @@
+package io.github.tato126.practice.loadtest;
+
+import io.github.tato126.practice.PracticeApplication;
+import io.github.tato126.practice.post.reactive.ReactivePostServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 애플리케이션을 H2로 기동하고 HTTP 부하를 발생시키는 부하 테스트 진입점입니다.
+ * <p>
+ * 목표 처리량에 맞춰 일정한 간격으로 요청을 발생시키는 개방형(open) 모델을 사용합니다.
+ * 각 요청은 가상 스레드에서 실행되므로 느린 응답이 다음 요청의 발생을 막지 않으며,
+ * 지연은 예정 발생 시각 기준으로 기록됩니다.
+ * </p>
+ */
+public final class LoadTestRunner {
+
+    private static final double[] PERCENTILES = {50.0, 95.0, 99.0, 99.9};
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PracticeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "reactive.enabled=true",
+                        "reactive.port=0",
+                        // MVC/논블로킹 비교 시 -Pload.concurrency-limit=false로 MVC 쪽 부하 차단을 끌 수 있음
+                        "concurrency-limit.enabled=" + System.getProperty("load.concurrency-limit", "true"),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.io.github.tato126.practice=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run(args);
+
+        try {
+            URI mvcUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            URI reactiveUri = URI.create("http://localhost:" + context.getBean(ReactivePostServer.class).port());
+            Targets targets = new Targets(mvcUri, reactiveUri);
+
+            System.out.printf("Seeding %d users and %d posts...%n", config.users(), config.posts());
+            LoadTestFixture fixture = LoadTestFixture.seed(context, config.users(), config.posts());
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            System.out.printf("Warming up for %s at %d req/s...%n", config.warmup(), config.rate());
+            drive(config, client, targets, fixture, config.warmup(), null);
+
+            System.out.printf("Measuring for %s at %d req/s...%n", config.duration(), config.rate());
+            Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+            for (Endpoint endpoint : config.mix().endpoints()) {
+                stats.put(endpoint, new EndpointStats());
+            }
+            long started = System.nanoTime();
+            drive(config, client, targets, fixture, config.duration(), stats);
+            double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            report(stats, elapsedSeconds);
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 지정된 시간 동안 목표 처리량으로 요청을 발생시킵니다.
+     *
+     * @param stats 결과를 기록할 통계 (워밍업이면 null)
+     */
+    private static void drive(LoadTestConfig config, HttpClient client, Targets targets, LoadTestFixture fixture,
+                              Duration duration, Map<Endpoint, EndpointStats> stats) {
+        long intervalNanos = 1_000_000_000L / config.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; ; n++) {
+                long intendedStart = start + n * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = config.mix().pick(ThreadLocalRandom.current());
+                executor.execute(() -> send(client, targets.of(endpoint), fixture, endpoint, intendedStart,
+                        stats == null ? null : stats.get(endpoint)));
+            }
+        }
+    }
+
+    private static void send(HttpClient client, URI baseUri, LoadTestFixture fixture, Endpoint endpoint,
+                             long intendedStart, EndpointStats stats) {
+        HttpRequest request = endpoint.request(baseUri, fixture, ThreadLocalRandom.current());
+        long sentAt = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long completedAt = System.nanoTime();
+            if (stats != null) {
+                stats.record(completedAt - intendedStart, completedAt - sentAt, response.statusCode(), response.body().length);
+            }
+        } catch (IOException e) {
+            if (stats != null) {
+                stats.recordFailure(System.nanoTime() - intendedStart);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * MVC(Tomcat)와 논블로킹 조회 API(Reactor Netty)의 기본 URI입니다.
+     */
+    private record Targets(URI mvc, URI reactive) {
+
+        URI of(Endpoint endpoint) {
+            return endpoint.reactive() ? reactive : mvc;
+        }
+    }
+
+    private static void report(Map<Endpoint, EndpointStats> stats, double elapsedSeconds) {
+        System.out.println();
+        System.out.printf("%-16s %8s %7s %9s %9s %9s %9s %9s %9s %11s %8s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "p999(ms)", "max(ms)", "svc p99", "bytes");
+        stats.forEach((endpoint, stat) -> {
+            System.out.printf("%-16s %8d %7d %9.1f", endpoint.key(), stat.count(), stat.errors(), stat.count() / elapsedSeconds);
+            for (double percentile : PERCENTILES) {
+                System.out.printf(" %9.2f", stat.latencyMillis(percentile));
+            }
+            System.out.printf(" %9.2f %11.2f %8d%n", stat.maxLatencyMillis(), stat.serviceTimeMillis(99.0), stat.averageBytes());
+        });
+        System.out.println();
+        System.out.println("Latencies are measured from the intended send time (coordinated-omission corrected);");
+        System.out.println("'svc p99' is measured from the actual send time for comparison.");
+    }
+}
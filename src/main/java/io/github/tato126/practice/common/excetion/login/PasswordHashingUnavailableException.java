@@ -0,0 +1,21 @@
+package io.github.tato126.practice.common.excetion.login;
+
+/**
+ * 비밀번호 해싱 작업을 처리할 수 없을 때 발생하는 예외입니다.
+ * <p>
+ * 해싱 전용 스레드 풀의 대기열이 가득 찼거나 제한 시간 안에 결과를 받지 못한 경우 발생합니다.
+ * HTTP 503 (Service Unavailable) 응답으로 변환됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    /**
+     * 기본 예외 메시지와 함께 예외를 생성합니다.
+     */
+    public PasswordHashingUnavailableException() {
+        super("요청이 많아 인증을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
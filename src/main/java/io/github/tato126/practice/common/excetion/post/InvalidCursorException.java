@@ -0,0 +1,22 @@
+package io.github.tato126.practice.common.excetion.post;
+
+/**
+ * 커서 토큰 형식이 올바르지 않을 때 발생하는 예외입니다.
+ * <p>
+ * 클라이언트가 변조되었거나 잘린 커서로 목록 조회를 시도할 때 발생합니다.
+ * HTTP 400 (Bad Request) 응답으로 변환됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public class InvalidCursorException extends RuntimeException {
+    /**
+     * 잘못된 커서 토큰과 함께 예외를 생성합니다.
+     *
+     * @param cursor 잘못된 커서 토큰
+     */
+    public InvalidCursorException(String cursor) {
+        super("유효하지 않은 커서입니다: " + cursor);
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.tato126.practice.common.excetion.post;
+
+/**
+ * 게시글 일괄 가져오기 본문을 JSON으로 읽을 수 없을 때 발생하는 예외입니다.
+ * <p>
+ * 이미 커밋된 청크는 유지되므로, 메시지에 오류 이전까지 저장된 건수를 포함합니다.
+ * HTTP 400 (Bad Request) 응답으로 변환됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public class InvalidImportPayloadException extends RuntimeException {
+    /**
+     * 오류 위치와 저장된 건수와 함께 예외를 생성합니다.
+     *
+     * @param imported 오류 이전까지 저장된 게시글 수
+     * @param location 오류가 발생한 위치 (행/열)
+     * @param cause    원인 예외
+     */
+    public InvalidImportPayloadException(int imported, String location, Throwable cause) {
+        super("가져오기 본문을 읽을 수 없습니다 (" + location + "). 오류 이전까지 " + imported + "건이 저장되었습니다.", cause);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.tato126.practice.common.excetion.post;
+
+/**
+ * 예약 발행을 설정할 수 없는 게시글일 때 발생하는 예외입니다.
+ * <p>
+ * 이미 발행된(PUBLISHED) 게시글에 예약을 설정하거나 취소하려 할 때 발생합니다.
+ * HTTP 409 (Conflict) 응답으로 변환됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public class PostNotSchedulableException extends RuntimeException {
+    /**
+     * 지정된 메시지로 예외를 생성합니다.
+     *
+     * @param message 예외 메시지
+     */
+    public PostNotSchedulableException(String message) {
+        super(message);
+    }
+}
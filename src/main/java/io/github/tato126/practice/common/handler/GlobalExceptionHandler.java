@@ -4,10 +4,16 @@ import io.github.tato126.practice.common.dto.ErrorResponse;
 import io.github.tato126.practice.common.excetion.login.DuplicateEmailException;
 import io.github.tato126.practice.common.excetion.login.InvalidCredentialsException;
 import io.github.tato126.practice.common.excetion.login.InvalidPasswordException;
+import io.github.tato126.practice.common.excetion.login.PasswordHashingUnavailableException;
 import io.github.tato126.practice.common.excetion.login.UserNotFoundException;
+import io.github.tato126.practice.common.excetion.post.InvalidCursorException;
+import io.github.tato126.practice.common.excetion.post.InvalidImportPayloadException;
 import io.github.tato126.practice.common.excetion.post.PostAccessDeniedException;
 import io.github.tato126.practice.common.excetion.post.PostNotFoundException;
+import io.github.tato126.practice.common.excetion.post.PostNotSchedulableException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -138,4 +144,54 @@ public class GlobalExceptionHandler {
                 "INVALID_CREDENTIALS"
         );
     }
+
+    // 예약 발행을 설정할 수 없는 게시글
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(PostNotSchedulableException.class)
+    public ErrorResponse handlePostNotSchedulableException(PostNotSchedulableException e) {
+        log.error("PostNotSchedulableException: {}", e.getMessage());
+        return ErrorResponse.of(
+                e.getMessage(),
+                HttpStatus.CONFLICT.value(),
+                "POST_NOT_SCHEDULABLE"
+        );
+    }
+
+    // 잘못된 커서 토큰
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public ErrorResponse handleInvalidCursorException(InvalidCursorException e) {
+        log.error("InvalidCursorException: {}", e.getMessage());
+        return ErrorResponse.of(
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value(),
+                "INVALID_CURSOR"
+        );
+    }
+
+    // 게시글 가져오기 본문 형식 오류
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidImportPayloadException.class)
+    public ErrorResponse handleInvalidImportPayloadException(InvalidImportPayloadException e) {
+        log.error("InvalidImportPayloadException: {}", e.getMessage());
+        return ErrorResponse.of(
+                e.getMessage(),
+                HttpStatus.BAD_REQUEST.value(),
+                "INVALID_IMPORT_PAYLOAD"
+        );
+    }
+
+    // 비밀번호 해싱 대기열 포화
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ErrorResponse handlePasswordHashingUnavailableException(PasswordHashingUnavailableException e,
+                                                                   HttpServletResponse response) {
+        log.warn("PasswordHashingUnavailableException: {}", e.getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        return ErrorResponse.of(
+                e.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "PASSWORD_HASHING_UNAVAILABLE"
+        );
+    }
 }
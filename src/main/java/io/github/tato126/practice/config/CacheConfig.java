@@ -0,0 +1,54 @@
+package io.github.tato126.practice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 애플리케이션 캐시 설정 클래스입니다.
+ * <p>
+ * Caffeine 기반의 크기/TTL 제한 캐시를 구성합니다.
+ * 트랜잭션 인식 프록시로 감싸 수정/삭제 시의 캐시 제거가 커밋 이후에 반영되도록 하며,
+ * 적중/미스/축출 통계는 Actuator의 {@code cache.*} 지표로 노출됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    /**
+     * 게시글 상세 조회 캐시 이름
+     */
+    public static final String POST_DETAIL = "postDetail";
+
+    /**
+     * Caffeine 캐시 매니저 Bean을 생성합니다.
+     *
+     * @param maximumSize      캐시에 보관할 최대 항목 수
+     * @param expireAfterWrite 항목 저장 후 만료 시간
+     * @return 트랜잭션 인식 캐시 매니저
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.post-detail.maximum-size}") long maximumSize,
+            @Value("${cache.post-detail.expire-after-write}") Duration expireAfterWrite
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(POST_DETAIL);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
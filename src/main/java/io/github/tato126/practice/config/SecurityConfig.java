@@ -1,7 +1,9 @@
 package io.github.tato126.practice.config;
 
 import io.github.tato126.practice.config.jwt.JwtAuthenticationFilter;
+import io.github.tato126.practice.config.limit.ConcurrencyLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -32,6 +34,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
     /**
      * Spring Security 필터 체인을 구성합니다.
@@ -50,6 +53,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // 인증 없이 접근 가능한 엔드포인트
                 .requestMatchers("/api/auth/**", "/h2-console/**", "/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()  // 헬스 체크, Prometheus 수집
+                .requestMatchers(HttpMethod.GET, "/api/posts/export").authenticated()  // 전체 내보내기는 인증 필요
                 .requestMatchers(HttpMethod.GET, "/api/posts", "/api/posts/**").permitAll()  // 게시글 조회만 허용
                 .requestMatchers(HttpMethod.GET, "/api/users/**").permitAll()  // 사용자 프로필 조회 허용
                 // 나머지는 인증 필요 (POST, PUT, DELETE)
@@ -59,7 +64,9 @@ public class SecurityConfig {
                 .frameOptions(frame -> frame.sameOrigin())  // H2 Console 사용을 위해
             )
             // JWT 필터 추가 (UsernamePasswordAuthenticationFilter 전에 실행)
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // 동시성 제한 필터 (JWT 검증 전에 초과 요청을 거절)
+            .addFilterBefore(concurrencyLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -68,12 +75,14 @@ public class SecurityConfig {
      * 비밀번호 암호화를 위한 BCrypt 인코더 Bean을 생성합니다.
      * <p>
      * 회원가입 시 비밀번호를 암호화하고, 로그인 시 비밀번호를 검증하는 데 사용됩니다.
+     * 비용 계수는 설정으로 변경할 수 있으며, 변경 시 기존 비밀번호는 다음 로그인에서 재해싱됩니다.
      * </p>
      *
+     * @param strength BCrypt 비용 계수 (4~31)
      * @return BCryptPasswordEncoder 인스턴스
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,144 @@
+package io.github.tato126.practice.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.tato126.practice.config.jwt.JwtPrincipal;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 종류에 따라 주 DB와 복제본을 선택하는 라우팅 데이터소스입니다.
+ * <p>
+ * 읽기 전용 트랜잭션({@code @Transactional(readOnly = true)})은 복제본으로, 그 외는 주 DB로 보냅니다.
+ * 다음 경우에는 읽기 전용이어도 주 DB를 사용합니다.
+ * </p>
+ * <ul>
+ *   <li>복제 지연이 허용치를 넘었거나 복제본에 접근할 수 없을 때 ({@link ReplicaLagMonitor})</li>
+ *   <li>현재 사용자의 쓰기 트랜잭션이 최근 쓰기 창(read-your-writes window) 안에 커밋되었을 때</li>
+ *   <li>{@link #readFromPrimary(Supplier)} 안에서 실행될 때 (캐시를 채우는 조회 등)</li>
+ * </ul>
+ * <p>
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 동기화되지 않으므로,
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸
+ * 첫 SQL 실행 시점에 대상을 결정해야 합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * 라우팅 대상
+     */
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    // readFromPrimary 안에서 실행 중인지 여부
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    // 최근 쓰기 트랜잭션을 실행한 사용자 ID (창이 지나면 만료)
+    private final Cache<Long, Boolean> recentWriters;
+
+    /**
+     * 라우팅 데이터소스를 생성합니다.
+     *
+     * @param primary           주 DB 데이터소스
+     * @param replica           복제본 데이터소스
+     * @param lagMonitor        복제 지연 측정기
+     * @param readYourWrites    쓰기 후 해당 사용자의 읽기를 주 DB로 보내는 시간
+     * @param maxTrackedWriters 추적할 최근 쓰기 사용자 최대 수
+     */
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            Duration readYourWrites,
+            long maxTrackedWriters
+    ) {
+        this.lagMonitor = lagMonitor;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWrites)
+                .maximumSize(maxTrackedWriters)
+                .build();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 안에서도 주 DB에서 읽도록 작업을 실행합니다.
+     * <p>
+     * 캐시를 채우는 조회처럼 결과가 다른 사용자에게 재사용되는 읽기에 사용합니다.
+     * 커밋 후 캐시가 무효화된 직후 다른 사용자의 조회가 복제 지연 중인 복제본에서 이전 행을 읽으면,
+     * 그 행이 다시 캐시에 저장되어 다음 무효화까지 남기 때문입니다.
+     * 대상은 첫 SQL 실행 시점에 정해지므로, 트랜잭션의 첫 조회를 감싸야 합니다.
+     * 라우팅을 사용하지 않으면 작업만 실행합니다.
+     * </p>
+     *
+     * @param action 실행할 작업
+     * @param <T>    결과 타입
+     * @return 작업 결과
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_READ.get();
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READ.remove();
+            } else {
+                PRIMARY_READ.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        // 1. 쓰기: 주 DB, 쓰기 트랜잭션이 커밋되면 사용자의 최근 쓰기 시각 갱신
+        //    (커밋 전에 기록하면 긴 쓰기가 창을 소모하고, 트랜잭션 밖의 SQL은 쓰기로 보지 않음)
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()
+                    && TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.put(userId, Boolean.TRUE);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+
+        // 2. 읽기: 주 DB 조회 요청, 복제 지연 초과, 최근 쓰기 사용자는 주 DB
+        if (PRIMARY_READ.get() != null || !lagMonitor.isReplicaUsable()) {
+            return Route.PRIMARY;
+        }
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.userId();
+        }
+        return null;
+    }
+}
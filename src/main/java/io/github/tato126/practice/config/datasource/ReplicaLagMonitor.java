@@ -0,0 +1,100 @@
+package io.github.tato126.practice.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 복제본(replica)의 복제 지연을 측정하는 컴포넌트입니다.
+ * <p>
+ * 주기마다 주 DB의 {@code replication_heartbeat}에 현재 시각을 기록하고, 복제본에서 같은 행을 읽어
+ * 복제된 마지막 하트비트와 현재 시각의 차이를 지연으로 계산합니다.
+ * 지연이 허용치를 넘거나 복제본에 접근할 수 없으면 {@link #isReplicaUsable()}이 {@code false}가 되어
+ * 읽기 전용 트랜잭션도 주 DB로 보내집니다.
+ * </p>
+ * <p>
+ * 첫 측정이 성공하기 전에는 복제본을 사용하지 않습니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String BEAT_SQL = "update replication_heartbeat set beat_at = ? where id = 1";
+    private static final String READ_BEAT_SQL = "select beat_at from replication_heartbeat where id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+
+    // 측정 전이거나 복제본 장애 시에는 null
+    private volatile Duration lag;
+
+    /**
+     * 복제 지연 측정기를 생성합니다.
+     *
+     * @param primary 주 DB 데이터소스
+     * @param replica 복제본 데이터소스
+     * @param maxLag  복제본을 읽기에 사용할 수 있는 최대 지연
+     */
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * 하트비트를 기록하고 복제본의 지연을 다시 측정합니다.
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:1s}")
+    public void check() {
+        // 1. 주 DB에 하트비트 기록
+        Instant now = Instant.now();
+        try {
+            primary.update(BEAT_SQL, Timestamp.from(now));
+        } catch (DataAccessException e) {
+            // 주 DB에 기록하지 못하면 지연을 판단할 수 없으므로 이전 측정값 유지
+            log.warn("Replication heartbeat write failed: {}", e.getMessage());
+            return;
+        }
+
+        // 2. 복제본에 복제된 마지막 하트비트로 지연 계산
+        try {
+            Timestamp replicated = replica.queryForObject(READ_BEAT_SQL, Timestamp.class);
+            Duration measured = Duration.between(replicated.toInstant(), now);
+            lag = measured.isNegative() ? Duration.ZERO : measured;
+        } catch (DataAccessException e) {
+            if (lag != null) {
+                log.warn("Replica unavailable, routing reads to primary: {}", e.getMessage());
+            }
+            lag = null;
+        }
+    }
+
+    /**
+     * 마지막 측정에서 복제본의 지연이 허용치 이내였는지 반환합니다.
+     *
+     * @return 복제본을 읽기에 사용할 수 있으면 true
+     */
+    public boolean isReplicaUsable() {
+        Duration current = lag;
+        return current != null && current.compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * 마지막으로 측정한 복제 지연을 반환합니다.
+     *
+     * @return 복제 지연 (측정 전이거나 복제본 장애 시 null)
+     */
+    public Duration lag() {
+        return lag;
+    }
+}
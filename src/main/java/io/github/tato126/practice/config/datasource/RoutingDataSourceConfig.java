@@ -0,0 +1,135 @@
+package io.github.tato126.practice.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 분리 데이터소스 설정 클래스입니다.
+ * <p>
+ * {@code datasource.routing.enabled=true}일 때만 활성화되며, {@code spring.datasource.*}를 주 DB 풀로,
+ * {@code datasource.routing.replica.*}를 복제본 풀로 만들어 {@link ReadWriteRoutingDataSource}로 묶습니다.
+ * JPA, JdbcTemplate, Flyway는 모두 {@code @Primary}인 라우팅 데이터소스를 사용하며,
+ * 트랜잭션 밖의 실행(Flyway, 조회수 반영 등)은 주 DB로 보내집니다.
+ * </p>
+ * <p>
+ * 로컬에서는 {@code replica} 프로필로 별도의 H2 인메모리 DB를 복제본으로 사용합니다.
+ * 두 DB 사이에 실제 복제는 없으므로, {@code datasource.routing.replica.migrate=true}로 복제본에도
+ * 마이그레이션을 적용합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    /**
+     * 주 DB 커넥션 풀을 생성합니다. {@code spring.datasource.hikari.*} 설정이 적용됩니다.
+     *
+     * @param properties {@code spring.datasource.*} 설정
+     * @return 주 DB 데이터소스
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 복제본 커넥션 풀을 생성합니다.
+     *
+     * @param url             복제본 JDBC URL
+     * @param username        복제본 사용자
+     * @param password        복제본 비밀번호
+     * @param maximumPoolSize 복제본 풀 최대 크기
+     * @param migrate         복제본에도 마이그레이션을 적용할지 여부 (복제가 없는 로컬 환경용)
+     * @return 복제본 데이터소스
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.routing.replica.url}") String url,
+            @Value("${datasource.routing.replica.username:sa}") String username,
+            @Value("${datasource.routing.replica.password:}") String password,
+            @Value("${datasource.routing.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${datasource.routing.replica.migrate:false}") boolean migrate
+    ) {
+        // 1. 복제가 없는 환경이면 읽기 전용 풀과 별도의 커넥션으로 스키마 적용
+        if (migrate) {
+            Flyway.configure()
+                    .dataSource(url, username, password)
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+        }
+
+        // 2. 읽기 전용 커넥션 풀 생성
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * 복제 지연 측정기를 생성합니다.
+     *
+     * @param primary 주 DB 데이터소스
+     * @param replica 복제본 데이터소스
+     * @param maxLag  복제본을 읽기에 사용할 수 있는 최대 지연
+     * @return 복제 지연 측정기
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${datasource.routing.max-replica-lag:2s}") Duration maxLag
+    ) {
+        return new ReplicaLagMonitor(primary, replica, maxLag);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 라우팅 데이터소스를 생성합니다.
+     * <p>
+     * 트랜잭션의 읽기 전용 여부가 확정된 뒤(첫 SQL 실행 시점)에 대상을 고르도록
+     * {@link LazyConnectionDataSourceProxy}로 감쌉니다.
+     * </p>
+     *
+     * @param primary        주 DB 데이터소스
+     * @param replica        복제본 데이터소스
+     * @param lagMonitor     복제 지연 측정기
+     * @param readYourWrites 쓰기 후 해당 사용자의 읽기를 주 DB로 보내는 시간
+     * @return 라우팅 데이터소스
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            @Value("${datasource.routing.read-your-writes:5s}") Duration readYourWrites
+    ) {
+        ReadWriteRoutingDataSource routing =
+                new ReadWriteRoutingDataSource(primary, replica, lagMonitor, readYourWrites, 100_000);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
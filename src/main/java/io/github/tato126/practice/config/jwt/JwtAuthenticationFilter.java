@@ -1,11 +1,12 @@
 package io.github.tato126.practice.config.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -21,15 +22,31 @@ import java.util.ArrayList;
  * 유효한 경우 Spring Security의 인증 컨텍스트에 사용자 정보를 설정합니다.
  * {@link OncePerRequestFilter}를 상속하여 요청당 한 번만 실행됩니다.
  * </p>
+ * <p>
+ * 토큰 검증 시간은 결과(valid/invalid)별 {@code jwt.verification} 타이머로 기록됩니다.
+ * </p>
  *
  * @author tato126
  * @since 1.0
  */
-@RequiredArgsConstructor
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    /**
+     * JwtAuthenticationFilter를 초기화합니다.
+     *
+     * @param jwtUtil       JWT 유틸리티
+     * @param meterRegistry 검증 시간 타이머를 등록할 레지스트리
+     */
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.validTimer = verificationTimer(meterRegistry, "valid");
+        this.invalidTimer = verificationTimer(meterRegistry, "invalid");
+    }
 
     /**
      * JWT 토큰을 검증하고 인증 정보를 설정하는 필터 로직입니다.
@@ -37,8 +54,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * 다음 단계로 처리됩니다:
      * <ol>
      *   <li>Authorization 헤더에서 Bearer 토큰 추출</li>
-     *   <li>토큰 검증 및 Claims 파싱</li>
-     *   <li>Spring Security 인증 객체 생성</li>
+     *   <li>토큰 검증 및 Claims 파싱 (이미 검증된 토큰은 캐시에서 조회)</li>
+     *   <li>사용자 ID와 이메일을 담은 {@link JwtPrincipal}로 인증 객체 생성</li>
      *   <li>SecurityContext에 인증 정보 저장</li>
      * </ol>
      * 토큰이 없거나 유효하지 않은 경우 다음 필터로 진행합니다.
@@ -60,24 +77,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             String token = authHeader.substring(7); // 왜 7자리까지 자르지?
 
+            Timer.Sample sample = Timer.start();
             try {
 
                 // 2. 토큰 검증
                 Claims claims = jwtUtil.validateToken(token);
-                String email = claims.get("email", String.class);
+                sample.stop(validTimer);
+                JwtPrincipal principal = new JwtPrincipal(
+                        claims.get("userId", Long.class),
+                        claims.get("email", String.class)
+                );
 
                 // 3. Spring Security 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        email,  // Principal에 이메일 설정
+                        principal,  // Principal에 사용자 ID와 이메일 설정
                         null,
                         new ArrayList<>()
                 );
 
-                // 4. SecurityContext에 저장
+                // 4. SecurityContext에 저장 (접근 로그용으로 요청 속성에도 보관)
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                request.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, principal);
 
             } catch (Exception e) {
                 // 토큰 검증 실패 (만료, 위조... etc)
+                sample.stop(invalidTimer);
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
@@ -85,4 +109,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.verification")
+                .description("JWT 토큰 검증 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
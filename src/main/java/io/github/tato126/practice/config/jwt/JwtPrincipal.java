@@ -0,0 +1,37 @@
+package io.github.tato126.practice.config.jwt;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * JWT 인증을 통과한 사용자를 나타내는 Principal입니다.
+ * <p>
+ * 토큰의 userId, email 클레임을 함께 보관하여,
+ * 서비스 계층이 사용자 조회 없이 사용자 ID로 작성자 참조와 권한 확인을 할 수 있도록 합니다.
+ * {@link #getName()}은 이메일을 반환하므로 {@code Authentication#getName()}과 호환됩니다.
+ * </p>
+ *
+ * @param userId 사용자 ID
+ * @param email  사용자 이메일
+ * @author tato126
+ * @since 1.0
+ */
+public record JwtPrincipal(
+        Long userId,
+        String email
+) implements AuthenticatedPrincipal {
+
+    /**
+     * 인증된 Principal을 보관하는 요청 속성 이름 (SecurityContext 정리 후에도 접근 로그에서 사용)
+     */
+    public static final String REQUEST_ATTRIBUTE = JwtPrincipal.class.getName();
+
+    /**
+     * 인증 주체의 이름으로 이메일을 반환합니다.
+     *
+     * @return 사용자 이메일
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,6 +1,10 @@
 package io.github.tato126.practice.config.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,7 +12,11 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 유틸리티 클래스입니다.
@@ -16,6 +24,11 @@ import java.util.Date;
  * JJWT 라이브러리를 사용하여 JWT 액세스 토큰을 생성하고 검증합니다.
  * 토큰에는 사용자 ID와 이메일 정보가 포함되며, 만료 시간이 설정됩니다.
  * </p>
+ * <p>
+ * 파서는 한 번만 생성하여 재사용하며, 검증에 성공한 Claims는 토큰의 SHA-256 다이제스트를 키로
+ * 캐시합니다. 캐시 항목은 토큰의 만료 시각(exp)에 함께 만료되므로,
+ * 같은 토큰이 반복 요청되면 서명 검증과 JSON 파싱을 건너뜁니다.
+ * </p>
  *
  * @author tato126
  * @since 1.0
@@ -25,16 +38,28 @@ public class JwtUtil {
 
     private final SecretKey secretKey;
     private final Long accessTokenExpiration;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedClaims;
 
     /**
      * JwtUtil을 초기화합니다.
      *
-     * @param secret                 JWT 서명에 사용할 비밀키 (application.yml에서 주입)
-     * @param accessTokenExpiration  액세스 토큰 만료 시간 (밀리초)
+     * @param secret                JWT 서명에 사용할 비밀키 (application.yml에서 주입)
+     * @param accessTokenExpiration 액세스 토큰 만료 시간 (밀리초)
+     * @param claimsCacheSize       검증된 Claims 캐시의 최대 항목 수
      */
-    public JwtUtil(@Value("${jwt.secret}") String secret, @Value("${jwt.access-token-expiration}") long accessTokenExpiration) {
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
+                   @Value("${jwt.claims-cache-size:10000}") long claimsCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpiration = accessTokenExpiration;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     /**
@@ -60,7 +85,8 @@ public class JwtUtil {
     /**
      * JWT 토큰을 검증하고 Claims를 추출합니다.
      * <p>
-     * 토큰의 서명을 검증하고, 만료 여부를 확인합니다.
+     * 이미 검증된 토큰은 캐시된 Claims를 반환하고,
+     * 처음 보는 토큰만 서명 검증과 만료 여부 확인을 수행합니다.
      * </p>
      *
      * @param token 검증할 JWT 토큰
@@ -68,10 +94,18 @@ public class JwtUtil {
      * @throws io.jsonwebtoken.JwtException 토큰이 유효하지 않거나 만료된 경우
      */
     public Claims validateToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return verifiedClaims.get(digest(token), key -> verify(token));
+    }
+
+    /**
+     * 캐시를 거치지 않고 토큰의 서명과 만료 여부를 검증합니다.
+     *
+     * @param token 검증할 JWT 토큰
+     * @return 토큰의 Claims 정보
+     * @throws io.jsonwebtoken.JwtException 토큰이 유효하지 않거나 만료된 경우
+     */
+    Claims verify(String token) {
+        return jwtParser.parseSignedClaims(token)
                 .getPayload();
     }
 
@@ -85,4 +119,43 @@ public class JwtUtil {
         Claims claims = validateToken(token);
         return claims.get("userId", Long.class);
     }
+
+    /**
+     * 토큰 원문 대신 캐시 키로 사용할 SHA-256 다이제스트를 계산합니다.
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 항목이 토큰의 만료 시각(exp)을 넘기지 않도록 하는 만료 정책입니다.
+     */
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
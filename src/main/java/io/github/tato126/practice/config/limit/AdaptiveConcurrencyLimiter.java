@@ -0,0 +1,101 @@
+package io.github.tato126.practice.config.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 응답 시간으로 동시 처리 한도를 조정하는 AIMD 제한기입니다.
+ * <p>
+ * 응답 시간이 기준 이내인 요청이 끝나면 한도를 1씩 늘리고(가산 증가), 기준을 넘거나 과부하로 실패한 요청이
+ * 끝나면 한도에 감소 비율을 곱합니다(곱셈 감소). 처리 중 요청이 한도의 절반 미만이면 한도까지 부하가
+ * 오지 않은 것이므로 늘리지 않습니다. 한도는 최소/최대값 사이로 유지됩니다.
+ * </p>
+ * <p>
+ * 진입({@link #tryAcquire()})은 CAS로 잠금 없이 처리하고, 한도 조정만 동기화합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    /**
+     * 제한기를 생성합니다.
+     *
+     * @param initialLimit     초기 동시 처리 한도
+     * @param minLimit         최소 한도
+     * @param maxLimit         최대 한도
+     * @param latencyThreshold 이보다 느린 응답은 과부하 신호로 간주
+     * @param backoffRatio     과부하 시 한도에 곱할 비율 (0~1)
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      Duration latencyThreshold, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * 처리 중 요청 수가 한도 미만이면 자리를 차지합니다.
+     *
+     * @return 자리를 얻었으면 true (이 경우 반드시 {@link #release(long, boolean)} 호출)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반환하고 요청의 응답 시간으로 한도를 조정합니다.
+     *
+     * @param elapsedNanos 요청 처리 시간
+     * @param overloaded   하위 계층이 과부하로 실패했는지 여부 (예: 503)
+     */
+    public void release(long elapsedNanos, boolean overloaded) {
+        int current = inFlight.getAndDecrement();
+        adjust(current, overloaded || elapsedNanos > latencyThresholdNanos);
+    }
+
+    private synchronized void adjust(int inFlightAtCompletion, boolean slow) {
+        if (slow) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlightAtCompletion * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    /**
+     * 현재 동시 처리 한도를 반환합니다.
+     *
+     * @return 동시 처리 한도
+     */
+    public int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * 현재 처리 중인 요청 수를 반환합니다.
+     *
+     * @return 처리 중 요청 수
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.tato126.practice.config.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.tato126.practice.common.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 요청 분류별 적응형 동시성 제한을 적용하는 필터입니다.
+ * <p>
+ * {@link RouteClass}(인증/공개 조회/쓰기)마다 {@link AdaptiveConcurrencyLimiter}를 두고,
+ * 한도를 넘는 요청은 Tomcat 대기열에 쌓이기 전에 즉시 503과 {@code Retry-After}로 거절합니다.
+ * JWT 검증보다 앞에서 실행되어 거절되는 요청에는 토큰 검증 비용도 쓰지 않습니다.
+ * </p>
+ * <p>
+ * 분류별 한도와 처리 중 요청 수는 {@code concurrency.limit}, {@code concurrency.in.flight} 게이지로,
+ * 거절 수는 {@code concurrency.rejected} 카운터로 노출됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECTED_MESSAGE = "요청이 많아 잠시 후 다시 시도해 주세요.";
+
+    private final boolean enabled;
+    private final Duration retryAfter;
+    private final ObjectMapper objectMapper;
+    private final Map<RouteClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> rejected = new EnumMap<>(RouteClass.class);
+
+    /**
+     * ConcurrencyLimitFilter를 초기화합니다.
+     * <p>
+     * 분류별 설정은 {@code concurrency-limit.<분류>.initial/min/max/latency-threshold}에서 읽습니다.
+     * </p>
+     *
+     * @param enabled       동시성 제한 사용 여부
+     * @param backoffRatio  과부하 시 한도에 곱할 비율
+     * @param retryAfter    거절 응답의 Retry-After 값
+     * @param environment   분류별 설정을 읽을 환경
+     * @param objectMapper  거절 응답 직렬화용 ObjectMapper
+     * @param meterRegistry 지표를 등록할 레지스트리
+     */
+    public ConcurrencyLimitFilter(@Value("${concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+                                  @Value("${concurrency-limit.retry-after:1s}") Duration retryAfter,
+                                  Environment environment,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.retryAfter = retryAfter;
+        this.objectMapper = objectMapper;
+
+        for (RouteClass route : RouteClass.values()) {
+            String prefix = "concurrency-limit." + route.key() + ".";
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    environment.getProperty(prefix + "initial", Integer.class, 20),
+                    environment.getProperty(prefix + "min", Integer.class, 1),
+                    environment.getProperty(prefix + "max", Integer.class, 200),
+                    environment.getProperty(prefix + "latency-threshold", Duration.class, Duration.ofMillis(500)),
+                    backoffRatio
+            );
+            limiters.put(route, limiter);
+
+            Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                    .description("분류별 동시 처리 한도")
+                    .tag("route", route.key())
+                    .register(meterRegistry);
+            Gauge.builder("concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                    .description("분류별 처리 중 요청 수")
+                    .tag("route", route.key())
+                    .register(meterRegistry);
+            rejected.put(route, Counter.builder("concurrency.rejected")
+                    .description("동시성 한도 초과로 거절된 요청 수")
+                    .tag("route", route.key())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 분류별 한도 안에서만 요청을 처리합니다.
+     * <p>
+     * 다음 단계로 처리됩니다:
+     * <ol>
+     *   <li>요청 분류 결정 (제한 대상이 아니면 그대로 진행)</li>
+     *   <li>한도 초과 시 503 응답으로 즉시 거절</li>
+     *   <li>요청 처리 후 응답 시간과 503 여부로 한도 조정</li>
+     * </ol>
+     * </p>
+     *
+     * @param request     HTTP 요청
+     * @param response    HTTP 응답
+     * @param filterChain 필터 체인
+     * @throws ServletException 서블릿 처리 중 오류 발생 시
+     * @throws IOException      I/O 오류 발생 시
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        // 1. 요청 분류
+        RouteClass route = enabled ? RouteClass.of(request) : null;
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 2. 한도 초과 시 거절
+        AdaptiveConcurrencyLimiter limiter = limiters.get(route);
+        if (!limiter.tryAcquire()) {
+            rejected.get(route).increment();
+            reject(response);
+            return;
+        }
+
+        // 3. 처리 후 한도 조정
+        long startedAt = System.nanoTime();
+        boolean overloaded = true;
+        try {
+            filterChain.doFilter(request, response);
+            overloaded = response.getStatus() == HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        } finally {
+            limiter.release(System.nanoTime() - startedAt, overloaded);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(
+                REJECTED_MESSAGE,
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "CONCURRENCY_LIMIT_EXCEEDED"
+        ));
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.tato126.practice.config.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 동시성 제한을 따로 적용하는 요청 분류입니다.
+ * <p>
+ * 비용이 큰 인증 요청(BCrypt)과 쓰기 요청이 가벼운 공개 조회의 동시 처리 수를 잠식하지 않도록
+ * 분류별로 독립된 제한을 사용합니다.
+ * 오래 걸리는 것이 정상인 스트리밍 일괄 처리(가져오기/내보내기)는 느린 응답으로 다른 분류의 한도를
+ * 줄이지 않도록 별도 분류로 둡니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public enum RouteClass {
+
+    /**
+     * 회원가입/로그인 ({@code /api/auth/**})
+     */
+    AUTH("auth"),
+
+    /**
+     * 공개 조회 (GET/HEAD {@code /api/**})
+     */
+    PUBLIC_READ("public-read"),
+
+    /**
+     * 인증이 필요한 쓰기 (POST/PUT/PATCH/DELETE {@code /api/**})
+     */
+    WRITE("write"),
+
+    /**
+     * 스트리밍 일괄 처리 ({@code POST /api/posts/import}, {@code GET /api/posts/export})
+     */
+    BULK("bulk");
+
+    private static final String IMPORT_URI = "/api/posts/import";
+    private static final String EXPORT_URI = "/api/posts/export";
+
+    private final String key;
+
+    RouteClass(String key) {
+        this.key = key;
+    }
+
+    /**
+     * 설정과 지표 태그에 사용하는 이름을 반환합니다.
+     *
+     * @return 분류 이름 (예: public-read)
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * 요청의 분류를 결정합니다.
+     *
+     * @param request HTTP 요청
+     * @return 요청 분류 ({@code /api/**}가 아닌 요청은 null, 제한하지 않음)
+     */
+    public static RouteClass of(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (!uri.startsWith("/api/")) {
+            return null;
+        }
+        if (uri.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        if (IMPORT_URI.equals(uri) || EXPORT_URI.equals(uri)) {
+            return BULK;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return PUBLIC_READ;
+        }
+        return WRITE;
+    }
+}
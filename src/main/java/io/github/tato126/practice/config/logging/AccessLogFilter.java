@@ -0,0 +1,60 @@
+package io.github.tato126.practice.config.logging;
+
+import io.github.tato126.practice.config.jwt.JwtPrincipal;
+import io.github.tato126.practice.config.metrics.StatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 구조화된 접근 로그 한 줄을 남기는 필터입니다.
+ * <p>
+ * 가장 바깥 필터로 등록되어 보안 필터와 동시성 제한에서 거절된 요청까지 포함한
+ * 경로(매핑 패턴), 상태 코드, 처리 시간, Hibernate SQL 수, 사용자 ID를 {@link AccessLogWriter}에 전달합니다.
+ * 사용자 ID는 SecurityContext가 정리된 뒤에도 읽을 수 있도록 {@code JwtAuthenticationFilter}가 남긴
+ * 요청 속성({@link JwtPrincipal#REQUEST_ATTRIBUTE})에서 읽습니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+@ConditionalOnProperty(name = "access-log.enabled", havingValue = "true")
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLogWriter accessLogWriter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long epochMillis = System.currentTimeMillis();
+        long startedAt = System.nanoTime();
+        StatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Object principal = request.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE);
+            accessLogWriter.append(
+                    epochMillis,
+                    request.getMethod(),
+                    pattern != null ? pattern.toString() : request.getRequestURI(),
+                    response.getStatus(),
+                    System.nanoTime() - startedAt,
+                    StatementCounter.current(),
+                    principal instanceof JwtPrincipal jwtPrincipal ? jwtPrincipal.userId() : -1L
+            );
+        }
+    }
+}
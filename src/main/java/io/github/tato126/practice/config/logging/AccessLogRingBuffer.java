@@ -0,0 +1,164 @@
+package io.github.tato126.practice.config.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 접근 로그 항목을 담는 고정 크기의 잠금 없는 링 버퍼입니다 (다중 생산자, 단일 소비자).
+ * <p>
+ * 슬롯은 생성 시 모두 할당해 두고 요청 스레드는 필드 값만 채우므로, 기록 시 객체를 만들지 않습니다.
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 꼬리 위치를 CAS로 차지한 뒤 값을 채우고 시퀀스를 공개하며,
+ * 소비자는 공개된 슬롯만 순서대로 읽습니다.
+ * </p>
+ * <p>
+ * 버퍼가 가득 차면 기다리지 않고 해당 항목을 버리며, 버린 수는 {@link #dropped()}로 확인할 수 있습니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public class AccessLogRingBuffer {
+
+    /**
+     * 접근 로그 한 건의 값을 담는 재사용 슬롯입니다.
+     */
+    public static final class Entry {
+        long epochMillis;
+        String method;
+        String route;
+        int status;
+        long latencyNanos;
+        int statements;
+        long userId;
+    }
+
+    private final Entry[] entries;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    // 소비자 스레드만 접근
+    private long head;
+
+    /**
+     * 링 버퍼를 생성합니다.
+     *
+     * @param capacity 슬롯 수 (2의 거듭제곱으로 올림)
+     */
+    public AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.entries = new Entry[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 접근 로그 항목을 추가합니다. 버퍼가 가득 차면 기다리지 않고 버립니다.
+     *
+     * @param epochMillis  요청 시각
+     * @param method       HTTP 메서드
+     * @param route        매핑 패턴 또는 요청 URI
+     * @param status       응답 상태 코드
+     * @param latencyNanos 처리 시간
+     * @param statements   Hibernate SQL 수
+     * @param userId       인증 사용자 ID (없으면 음수)
+     * @return 추가했으면 true, 버렸으면 false
+     */
+    public boolean offer(long epochMillis, String method, String route, int status,
+                         long latencyNanos, int statements, long userId) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+
+            if (difference == 0) {
+                // 1. 빈 슬롯: 꼬리 위치를 차지한 생산자만 값을 채움
+                if (tail.compareAndSet(position, position + 1)) {
+                    Entry entry = entries[index];
+                    entry.epochMillis = epochMillis;
+                    entry.method = method;
+                    entry.route = route;
+                    entry.status = status;
+                    entry.latencyNanos = latencyNanos;
+                    entry.statements = statements;
+                    entry.userId = userId;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 2. 소비자가 아직 읽지 않은 슬롯: 가득 참
+                dropped.increment();
+                return false;
+            } else {
+                // 3. 다른 생산자가 먼저 차지함
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 다음 항목을 꺼내 처리합니다. 소비자 스레드 한 곳에서만 호출해야 합니다.
+     *
+     * @param consumer 항목 처리기 (호출이 끝나면 슬롯이 재사용됨)
+     * @return 꺼낸 항목이 있으면 true
+     */
+    public boolean poll(EntryConsumer consumer) {
+        int index = (int) (head & mask);
+        if (sequences.getAcquire(index) != head + 1) {
+            return false;
+        }
+        consumer.accept(entries[index]);
+        entries[index].route = null;
+        sequences.setRelease(index, head + entries.length);
+        head++;
+        return true;
+    }
+
+    /**
+     * 버퍼가 가득 차서 버린 항목 수를 반환합니다.
+     *
+     * @return 버린 항목 수
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * 아직 처리되지 않은 항목 수의 근사값을 반환합니다.
+     *
+     * @return 대기 중인 항목 수
+     */
+    public long backlog() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * 슬롯 수를 반환합니다.
+     *
+     * @return 슬롯 수
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * 링 버퍼 항목 처리기입니다.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * 항목을 처리합니다.
+         *
+         * @param entry 처리할 항목
+         */
+        void accept(Entry entry);
+    }
+}
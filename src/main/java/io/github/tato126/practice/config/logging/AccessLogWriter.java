@@ -0,0 +1,213 @@
+package io.github.tato126.practice.config.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접근 로그를 링 버퍼에 모아 전용 스레드에서 파일로 기록하는 컴포넌트입니다.
+ * <p>
+ * 요청 스레드는 {@link #append}로 미리 할당된 {@link AccessLogRingBuffer} 슬롯에 값만 채우고 바로 돌아가며,
+ * 문자열 변환과 파일 쓰기는 {@code access-log-writer} 스레드가 담당합니다.
+ * 한 줄에 하나의 JSON 객체(NDJSON)로 기록하며, 버퍼가 비면 파일을 flush합니다.
+ * 버퍼가 빈 동안에는 대기 시간을 1ms부터 100ms까지 두 배씩 늘려, 요청이 없을 때 스레드가 계속 깨어나지 않도록 합니다.
+ * </p>
+ * <p>
+ * 버퍼가 가득 차면 요청을 막지 않고 로그를 버리며, 버린 수는 {@code access.log.dropped},
+ * 대기 중인 항목 수는 {@code access.log.backlog} 지표로 노출됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "access-log.enabled", havingValue = "true")
+public class AccessLogWriter {
+
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AccessLogRingBuffer buffer;
+    private final Path file;
+    private final Thread thread;
+
+    // 기록 스레드에서만 사용
+    private final StringBuilder line = new StringBuilder(256);
+    private Writer writer;
+
+    private volatile boolean running = true;
+
+    /**
+     * AccessLogWriter를 초기화합니다.
+     *
+     * @param file          접근 로그 파일 경로
+     * @param bufferSize    링 버퍼 슬롯 수 (가득 차면 이후 항목을 버림)
+     * @param meterRegistry 지표를 등록할 레지스트리
+     */
+    public AccessLogWriter(@Value("${access-log.file:logs/access.log}") Path file,
+                           @Value("${access-log.buffer-size:8192}") int bufferSize,
+                           MeterRegistry meterRegistry) {
+        this.buffer = new AccessLogRingBuffer(bufferSize);
+        this.file = file;
+        this.thread = Thread.ofPlatform().name("access-log-writer").daemon(true).unstarted(this::drainLoop);
+
+        FunctionCounter.builder("access.log.dropped", buffer, AccessLogRingBuffer::dropped)
+                .description("링 버퍼가 가득 차서 버린 접근 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("access.log.backlog", buffer, AccessLogRingBuffer::backlog)
+                .description("기록을 기다리는 접근 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그 파일을 열고 기록 스레드를 시작합니다.
+     *
+     * @throws IOException 로그 파일을 열 수 없는 경우
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        thread.start();
+    }
+
+    /**
+     * 접근 로그 한 건을 버퍼에 추가합니다. 요청 스레드에서 호출되며 대기하지 않습니다.
+     *
+     * @param epochMillis  요청 시각
+     * @param method       HTTP 메서드
+     * @param route        매핑 패턴 또는 요청 URI
+     * @param status       응답 상태 코드
+     * @param latencyNanos 처리 시간
+     * @param statements   Hibernate SQL 수
+     * @param userId       인증 사용자 ID (없으면 음수)
+     */
+    public void append(long epochMillis, String method, String route, int status,
+                       long latencyNanos, int statements, long userId) {
+        buffer.offer(epochMillis, method, route, status, latencyNanos, statements, userId);
+    }
+
+    private void drainLoop() {
+        boolean dirty = false;
+        long idleParkNanos = MIN_IDLE_PARK_NANOS;
+        try {
+            while (running || buffer.backlog() > 0) {
+                try {
+                    if (buffer.poll(this::write)) {
+                        dirty = true;
+                        idleParkNanos = MIN_IDLE_PARK_NANOS;
+                        continue;
+                    }
+                    // 버퍼가 비었을 때만 flush하여 쓰기 시스템 콜을 묶음
+                    if (dirty) {
+                        writer.flush();
+                        dirty = false;
+                    }
+                } catch (IOException e) {
+                    log.warn("Access log flush failed: {}", e.getMessage());
+                }
+                // 비어 있는 동안 대기 시간을 늘림 (stop()은 unpark로 바로 깨움)
+                LockSupport.parkNanos(idleParkNanos);
+                idleParkNanos = Math.min(idleParkNanos * 2, MAX_IDLE_PARK_NANOS);
+            }
+        } finally {
+            // 쓰는 중에 닫히지 않도록 파일은 기록 스레드가 직접 닫음
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Access log close failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void write(AccessLogRingBuffer.Entry entry) {
+        // {"ts":"...","method":"GET","route":"/api/posts/{id}","status":200,"latencyMs":1.234,"statements":1,"userId":42}
+        StringBuilder sb = line;
+        sb.setLength(0);
+        sb.append("{\"ts\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(entry.epochMillis), sb);
+        sb.append("\",\"method\":\"").append(entry.method);
+        sb.append("\",\"route\":\"");
+        appendEscaped(sb, entry.route);
+        sb.append("\",\"status\":").append(entry.status);
+
+        long micros = entry.latencyNanos / 1_000;
+        long fraction = micros % 1_000;
+        sb.append(",\"latencyMs\":").append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            sb.append('0');
+        }
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+
+        sb.append(",\"statements\":").append(entry.statements);
+        sb.append(",\"userId\":");
+        if (entry.userId < 0) {
+            sb.append("null");
+        } else {
+            sb.append(entry.userId);
+        }
+        sb.append("}\n");
+
+        try {
+            writer.append(sb);
+        } catch (IOException e) {
+            // 슬롯은 반환되어야 하므로 예외를 던지지 않고 해당 줄만 버림
+            log.warn("Access log write failed: {}", e.getMessage());
+        }
+    }
+
+    private static void appendEscaped(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c >= 0x20) {
+                sb.append(c);
+            }
+        }
+    }
+
+    /**
+     * 남은 로그를 모두 기록하고 파일을 닫습니다.
+     * <p>
+     * 파일은 기록 스레드가 남은 항목을 모두 쓴 뒤 닫습니다. 5초 안에 끝나지 않으면 기다리지 않고 종료를 진행하며,
+     * 이 경우에도 쓰는 중인 파일을 다른 스레드에서 닫지 않습니다.
+     * </p>
+     *
+     * @throws InterruptedException 기록 스레드 종료를 기다리는 중 인터럽트된 경우
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+        if (thread.isAlive()) {
+            log.warn("Access log writer is still draining {} entries after 5s", buffer.backlog());
+        }
+    }
+}
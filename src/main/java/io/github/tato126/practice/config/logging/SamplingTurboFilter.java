@@ -0,0 +1,62 @@
+package io.github.tato126.practice.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 애플리케이션 DEBUG 로그를 일정 비율로만 남기는 Logback TurboFilter입니다.
+ * <p>
+ * TurboFilter는 로그 이벤트 객체를 만들기 전에 실행되므로, 버려지는 로그는 메시지 포맷팅과
+ * 할당 비용이 들지 않습니다. {@code loggerPrefix}로 시작하는 로거의 DEBUG 이하 로그 중
+ * {@code 1/rate}만 통과시키고, 그 외 로그는 판단하지 않습니다(NEUTRAL).
+ * </p>
+ * <p>
+ * 설정 예 (logback-spring.xml):
+ * <pre>{@code
+ * <turboFilter class="io.github.tato126.practice.config.logging.SamplingTurboFilter">
+ *     <loggerPrefix>io.github.tato126.practice</loggerPrefix>
+ *     <rate>100</rate>
+ * </turboFilter>
+ * }</pre>
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "";
+    private int rate = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.INFO) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 스레드별 난수로 경합 없이 1/rate 표본 추출
+        return ThreadLocalRandom.current().nextInt(rate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * 표본 추출을 적용할 로거 이름 접두사를 설정합니다.
+     *
+     * @param loggerPrefix 로거 이름 접두사
+     */
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    /**
+     * 통과시킬 비율의 분모를 설정합니다 (100이면 100건 중 1건).
+     *
+     * @param rate 표본 비율 분모 (1 이상)
+     */
+    public void setRate(int rate) {
+        this.rate = Math.max(1, rate);
+    }
+}
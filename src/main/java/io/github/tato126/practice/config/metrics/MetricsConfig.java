@@ -0,0 +1,44 @@
+package io.github.tato126.practice.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 애플리케이션 지표 설정 클래스입니다.
+ * <p>
+ * Hibernate에 {@link StatementCounter}를 등록하고, 요청당 SQL 수를 기록하는
+ * {@link StatementCountInterceptor}를 API 경로에 적용합니다.
+ * 서비스 메서드 타이머({@code @Timed})와 히스토그램 설정은 application.yml의 {@code management.*}에서 관리합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Hibernate 세션 팩토리에 SQL 수 집계용 StatementInspector를 등록합니다.
+     *
+     * @return Hibernate 설정 커스터마이저
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementCountInterceptor(meterRegistry))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.tato126.practice.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 Hibernate가 실행한 SQL 문 수를 세는 {@link StatementInspector}입니다.
+ * <p>
+ * Hibernate는 SQL을 준비할 때마다 {@link #inspect(String)}를 호출하므로, 요청 시작 시 {@link #reset()}으로
+ * 초기화하고 요청 종료 시 {@link #current()}로 읽으면 요청당 SQL 수를 얻을 수 있습니다.
+ * JdbcTemplate으로 직접 실행한 SQL은 포함되지 않습니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 현재 스레드의 SQL 수를 0으로 초기화합니다.
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * 마지막 초기화 이후 현재 스레드에서 준비된 SQL 수를 반환합니다.
+     *
+     * @return SQL 수
+     */
+    public static int current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.tato126.practice.post.cache;
+
+import io.github.tato126.practice.post.event.PostChangedEvent;
+import io.github.tato126.practice.post.event.PostsImportedEvent;
+import io.github.tato126.practice.post.event.PostsPublishedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 발행된 게시글 목록의 버전을 메모리에 보관하는 컴포넌트입니다.
+ * <p>
+ * 목록/커서 조회의 ETag 계산에 사용하며, 게시글 생성/수정/삭제, 일괄 가져오기, 예약 발행이
+ * 커밋되면 버전을 올립니다. 요청마다 집계 쿼리로 목록 전체를 읽지 않으므로
+ * 조건부 요청 판단에 DB 조회가 발생하지 않습니다.
+ * </p>
+ * <p>
+ * 시작 값은 임의로 정하므로, 재시작 전에 받은 ETag는 재시작 후 일치하지 않습니다.
+ * 마지막 변경 시각(시작 시에는 시작 시각)도 함께 보관하여 목록의 Last-Modified로 사용합니다.
+ * </p>
+ * <p>
+ * 버전은 이 JVM에만 있으므로 단일 인스턴스 배포에서만 올바릅니다. 여러 인스턴스에서는
+ * 인스턴스마다 버전이 다르고, 쓰기를 처리한 인스턴스만 버전을 올리므로
+ * 다른 인스턴스는 변경 후에도 304를 반환할 수 있습니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Component
+public class PostListVersion {
+
+    private final AtomicReference<Version> version = new AtomicReference<>(
+            new Version(ThreadLocalRandom.current().nextLong() >>> 1, System.currentTimeMillis()));
+
+    /**
+     * 현재 목록 버전을 반환합니다.
+     * <p>
+     * 목록 조회보다 먼저 읽어야 합니다. 조회 중 변경이 커밋되면 응답은 이전 버전으로 표시되어
+     * 다음 요청에서 다시 조회됩니다.
+     * </p>
+     *
+     * @return 목록 버전과 마지막 변경 시각
+     */
+    public Version current() {
+        return version.get();
+    }
+
+    /**
+     * 게시글 생성/수정/삭제가 커밋되면 버전을 올립니다.
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        increment();
+    }
+
+    /**
+     * 일괄 가져오기 청크가 커밋되면 버전을 올립니다.
+     *
+     * @param event 게시글 가져오기 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostsImported(PostsImportedEvent event) {
+        increment();
+    }
+
+    /**
+     * 예약 발행이 커밋되면 버전을 올립니다.
+     *
+     * @param event 게시글 발행 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostsPublished(PostsPublishedEvent event) {
+        increment();
+    }
+
+    private void increment() {
+        long now = System.currentTimeMillis();
+        version.updateAndGet(v -> new Version(v.value() + 1, Math.max(now, v.changedAt())));
+    }
+
+    /**
+     * 목록 버전과 마지막 변경 시각입니다.
+     *
+     * @param value     목록 버전
+     * @param changedAt 마지막 변경 시각 (epoch 밀리초)
+     */
+    public record Version(long value, long changedAt) {
+    }
+}
@@ -0,0 +1,449 @@
+package io.github.tato126.practice.post.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.tato126.practice.config.CacheConfig;
+import io.github.tato126.practice.post.controller.PostValidators;
+import io.github.tato126.practice.post.dto.response.PostResponse;
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.post.event.PostChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 발행된 게시글 상세 응답의 직렬화된 JSON을 힙 외부(direct ByteBuffer)에 보관하는 캐시입니다.
+ * <p>
+ * 고정 크기 슬랩을 일정한 크기의 청크로 나누어 사용하며, 한 응답은 여러 청크에 나뉘어 저장됩니다.
+ * 적중 시에는 엔티티/DTO/Jackson 트리를 만들지 않고 청크의 바이트를 응답 스트림에 바로 씁니다.
+ * 용량이 부족하면 가장 오래 사용되지 않은 항목(LRU)부터 축출합니다.
+ * </p>
+ * <p>
+ * 항목은 참조 카운트로 관리되어, 응답을 쓰는 중에 축출되더라도 쓰기가 끝난 후에 청크가 반환됩니다.
+ * 수정/삭제는 커밋 이후 {@link PostChangedEvent}로 무효화되며, 무효화 이전에 읽어 온 응답이
+ * 뒤늦게 저장되지 않도록 저장 시점의 스탬프를 비교합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class PostResponseCache implements MeterBinder {
+
+    private static final int SLAB_SIZE = 4 * 1024 * 1024;
+    private static final int STAMP_SLOTS = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Cache postDetailCache;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int chunksPerSlab;
+    private final int maxEntryBytes;
+    private final ByteBuffer[] slabs;
+    private final int[] freeChunks;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final long[] invalidatedAt = new long[STAMP_SLOTS];
+
+    private int allocatedSlabs;
+    private int freeCount;
+    private int usedChunks;
+    private volatile long clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * PostResponseCache를 초기화합니다.
+     * <p>
+     * 슬랩은 필요할 때 할당되므로, 실제 사용량이 적으면 설정한 용량만큼의 메모리를 점유하지 않습니다.
+     * </p>
+     *
+     * @param objectMapper 응답 직렬화에 사용할 ObjectMapper (MVC와 동일한 설정)
+     * @param cacheManager 게시글 상세 조회 캐시를 가진 캐시 매니저
+     * @param enabled      캐시 사용 여부
+     * @param capacity     최대 용량 (슬랩 크기 단위로 올림)
+     * @param chunkSize    청크 크기
+     * @param maxEntrySize 항목 하나의 최대 크기 (초과하면 저장하지 않음)
+     * @throws IllegalArgumentException 청크 크기가 슬랩 크기(4MB)의 약수가 아니거나 용량이 0 이하인 경우
+     */
+    public PostResponseCache(ObjectMapper objectMapper,
+                             CacheManager cacheManager,
+                             @Value("${cache.post-response.enabled:true}") boolean enabled,
+                             @Value("${cache.post-response.capacity:32MB}") DataSize capacity,
+                             @Value("${cache.post-response.chunk-size:4KB}") DataSize chunkSize,
+                             @Value("${cache.post-response.max-entry-size:256KB}") DataSize maxEntrySize) {
+        // 청크가 슬랩을 나누어떨어지지 않으면 슬랩 끝이 낭비되고, 슬랩보다 크면 빈 청크가 하나도 없게 된다
+        if (chunkSize.toBytes() <= 0 || chunkSize.toBytes() > SLAB_SIZE || SLAB_SIZE % chunkSize.toBytes() != 0) {
+            throw new IllegalArgumentException(
+                    "cache.post-response.chunk-size는 " + SLAB_SIZE + "바이트의 약수여야 합니다: " + chunkSize);
+        }
+        if (capacity.toBytes() <= 0) {
+            throw new IllegalArgumentException("cache.post-response.capacity는 0보다 커야 합니다: " + capacity);
+        }
+
+        this.objectMapper = objectMapper;
+        this.postDetailCache = cacheManager.getCache(CacheConfig.POST_DETAIL);
+        this.enabled = enabled;
+        this.chunkSize = (int) chunkSize.toBytes();
+        this.chunksPerSlab = SLAB_SIZE / this.chunkSize;
+        this.maxEntryBytes = (int) Math.min(maxEntrySize.toBytes(), capacity.toBytes());
+        this.slabs = new ByteBuffer[(int) Math.ceilDiv(capacity.toBytes(), SLAB_SIZE)];
+        this.freeChunks = new int[slabs.length * chunksPerSlab];
+    }
+
+    /**
+     * 캐시된 응답이 있으면 응답 스트림에 바로 씁니다.
+     * <p>
+     * 조건부 요청의 검증자가 일치하면 본문 없이 304를 설정합니다.
+     * </p>
+     *
+     * @param postId  게시글 ID
+     * @param request 현재 요청
+     * @return 캐시에서 응답했으면 true, 캐시에 없으면 false
+     * @throws IOException 응답 쓰기에 실패한 경우
+     */
+    public boolean serve(Long postId, ServletWebRequest request) throws IOException {
+        if (!enabled) {
+            return false;
+        }
+
+        // 1. 조회 및 참조 획득 (쓰는 동안 청크가 재사용되지 않도록)
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(postId);
+            if (entry != null) {
+                entry.refs.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return false;
+        }
+        hits.increment();
+
+        try {
+            // 2. 조건부 요청이면 304
+            if (request.checkNotModified(entry.etag, entry.lastModified)) {
+                return true;
+            }
+
+            // 3. 청크를 순서대로 응답 스트림에 복사
+            HttpServletResponse response = request.getResponse();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(entry.length);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            response.setHeader(HttpHeaders.ETAG, entry.etag);
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, entry.lastModified);
+            writeTo(entry, response.getOutputStream());
+            return true;
+        } finally {
+            release(entry);
+        }
+    }
+
+    /**
+     * 이후의 {@link #put}에 전달할 스탬프를 반환합니다.
+     * <p>
+     * 응답을 조회하기 전에 받아 두어야, 조회 중에 발생한 무효화를 감지할 수 있습니다.
+     * </p>
+     *
+     * @return 현재 스탬프
+     */
+    public long stamp() {
+        return clock;
+    }
+
+    /**
+     * 발행된 게시글 응답을 직렬화하여 저장합니다.
+     * <p>
+     * 스탬프 이후에 해당 게시글이 무효화되었거나, 크기가 한도를 넘으면 저장하지 않습니다.
+     * </p>
+     *
+     * @param post  게시글 응답
+     * @param stamp 응답 조회 전에 {@link #stamp()}로 받은 값
+     */
+    public void put(PostResponse post, long stamp) {
+        if (!enabled || post.status() != Post.PostStatus.PUBLISHED) {
+            return;
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(post);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize post {} for response cache", post.id(), e);
+            return;
+        }
+        if (body.length > maxEntryBytes) {
+            return;
+        }
+
+        int needed = Math.max(1, Math.ceilDiv(body.length, chunkSize));
+        lock.lock();
+        try {
+            // 1. 조회 중 무효화되었거나 이미 저장된 경우 무시
+            if (invalidatedAt[slot(post.id())] > stamp || entries.containsKey(post.id())) {
+                return;
+            }
+
+            // 2. 청크 확보 (슬랩 할당 또는 LRU 축출)
+            if (!reserve(needed)) {
+                return;
+            }
+
+            // 3. 청크에 나누어 복사
+            int[] chunks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                chunks[i] = freeChunks[--freeCount];
+                int offset = i * chunkSize;
+                buffer(chunks[i]).put(position(chunks[i]), body, offset, Math.min(chunkSize, body.length - offset));
+            }
+            usedChunks += needed;
+
+            entries.put(post.id(), new Entry(chunks, body.length,
+                    PostValidators.etag(post), PostValidators.lastModified(post).toInstant().toEpochMilli()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 게시글의 캐시 항목을 무효화합니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void invalidate(Long postId) {
+        lock.lock();
+        try {
+            invalidatedAt[slot(postId)] = ++clock;
+            Entry entry = entries.remove(postId);
+            if (entry != null) {
+                release(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 상세 조회 캐시(Caffeine)와 이 캐시에서 게시글을 함께 제거합니다.
+     * <p>
+     * 상세 조회 캐시를 먼저 제거한 뒤 무효화해야, 무효화 이후의 캐시 미스가
+     * 상세 조회 캐시에 남은 이전 응답을 다시 저장하지 않습니다.
+     * </p>
+     *
+     * @param postId 게시글 ID
+     */
+    public void evict(Long postId) {
+        if (postDetailCache != null) {
+            postDetailCache.evictIfPresent(postId);
+        }
+        invalidate(postId);
+    }
+
+    /**
+     * 게시글 수정/삭제가 커밋되면 캐시 항목을 무효화합니다.
+     * <p>
+     * 상세 조회 캐시의 커밋 후 제거보다 먼저 실행될 수 있으므로 {@link #evict(Long)}로 함께 제거합니다.
+     * </p>
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.CREATED) {
+            return;
+        }
+        evict(event.postId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String prefix = "post.response.cache";
+        Gauge.builder(prefix + ".entries", this, cache -> cache.entryCount())
+                .description("Number of serialized post responses held off-heap")
+                .register(registry);
+        Gauge.builder(prefix + ".bytes.used", this, cache -> cache.usedBytes())
+                .description("Off-heap bytes occupied by cached responses (chunk granularity)")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(prefix + ".bytes.allocated", this, cache -> cache.allocatedBytes())
+                .description("Direct memory allocated for slabs")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(prefix + ".bytes.capacity", this, cache -> (double) cache.slabs.length * SLAB_SIZE)
+                .description("Maximum direct memory the cache may allocate")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(prefix + ".hit.ratio", this, cache -> cache.hitRatio())
+                .description("Hits divided by lookups since startup")
+                .register(registry);
+        FunctionCounter.builder(prefix + ".hits", hits, LongAdder::sum).register(registry);
+        FunctionCounter.builder(prefix + ".misses", misses, LongAdder::sum).register(registry);
+        FunctionCounter.builder(prefix + ".evictions", evictions, LongAdder::sum).register(registry);
+    }
+
+    private double entryCount() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double usedBytes() {
+        lock.lock();
+        try {
+            return (double) usedChunks * chunkSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double allocatedBytes() {
+        lock.lock();
+        try {
+            return (double) allocatedSlabs * SLAB_SIZE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * 필요한 수만큼 빈 청크를 확보합니다. (lock 보유 상태에서 호출)
+     * <p>
+     * 빈 청크가 부족하면 슬랩을 새로 할당하고, 용량에 도달했으면 LRU 항목을 축출합니다.
+     * 응답을 쓰는 중인 항목은 쓰기가 끝나야 청크가 반환되므로, 모든 항목을 축출해도 부족하면 포기합니다.
+     * </p>
+     */
+    private boolean reserve(int needed) {
+        while (freeCount < needed) {
+            if (allocatedSlabs < slabs.length) {
+                allocateSlab();
+                continue;
+            }
+            Iterator<Entry> eldest = entries.values().iterator();
+            if (!eldest.hasNext()) {
+                return false;
+            }
+            Entry entry = eldest.next();
+            eldest.remove();
+            evictions.increment();
+            release(entry);
+        }
+        return true;
+    }
+
+    private void allocateSlab() {
+        int slab = allocatedSlabs++;
+        slabs[slab] = ByteBuffer.allocateDirect(SLAB_SIZE);
+        for (int i = chunksPerSlab - 1; i >= 0; i--) {
+            freeChunks[freeCount++] = slab * chunksPerSlab + i;
+        }
+    }
+
+    /**
+     * 항목의 참조를 반환하고, 마지막 참조였다면 청크를 빈 목록에 돌려놓습니다.
+     */
+    private void release(Entry entry) {
+        if (entry.refs.decrementAndGet() > 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (int chunk : entry.chunks) {
+                freeChunks[freeCount++] = chunk;
+            }
+            usedChunks -= entry.chunks.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 항목의 청크를 순서대로 출력 스트림에 씁니다.
+     * <p>
+     * 참조를 보유한 항목의 청크는 수정되지 않으므로 lock 없이 절대 위치로 읽습니다.
+     * </p>
+     */
+    private void writeTo(Entry entry, ServletOutputStream out) throws IOException {
+        byte[] scratch = new byte[Math.min(chunkSize, entry.length)];
+        int remaining = entry.length;
+        for (int chunk : entry.chunks) {
+            int length = Math.min(chunkSize, remaining);
+            buffer(chunk).get(position(chunk), scratch, 0, length);
+            out.write(scratch, 0, length);
+            remaining -= length;
+        }
+    }
+
+    private ByteBuffer buffer(int chunk) {
+        return slabs[chunk / chunksPerSlab];
+    }
+
+    private int position(int chunk) {
+        return (chunk % chunksPerSlab) * chunkSize;
+    }
+
+    private static int slot(Long postId) {
+        return (int) (postId & (STAMP_SLOTS - 1));
+    }
+
+    /**
+     * 캐시 항목 (청크 목록과 HTTP 검증자)
+     * <p>
+     * 참조 카운트는 캐시가 보유한 1에서 시작하며, 응답을 쓰는 동안 증가합니다.
+     * </p>
+     */
+    private static final class Entry {
+
+        private final int[] chunks;
+        private final int length;
+        private final String etag;
+        private final long lastModified;
+        private final AtomicInteger refs = new AtomicInteger(1);
+
+        private Entry(int[] chunks, int length, String etag, long lastModified) {
+            this.chunks = chunks;
+            this.length = length;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -1,27 +1,57 @@
 package io.github.tato126.practice.post.controller;
 
+import io.github.tato126.practice.config.jwt.JwtPrincipal;
+import io.github.tato126.practice.post.cache.PostListVersion;
+import io.github.tato126.practice.post.cache.PostResponseCache;
+import io.github.tato126.practice.post.dto.request.PostCursor;
 import io.github.tato126.practice.post.dto.request.PostRequest;
+import io.github.tato126.practice.post.dto.request.PostScheduleRequest;
 import io.github.tato126.practice.post.dto.request.PostUpdateRequest;
+import io.github.tato126.practice.post.dto.response.PostImportResponse;
 import io.github.tato126.practice.post.dto.response.PostResponse;
+import io.github.tato126.practice.post.dto.response.PostScheduleResponse;
+import io.github.tato126.practice.post.dto.response.PostSliceResponse;
+import io.github.tato126.practice.post.dto.response.PostSummaryResponse;
+import io.github.tato126.practice.post.service.PostExportService;
+import io.github.tato126.practice.post.service.PostImportService;
+import io.github.tato126.practice.post.service.PostSearchService;
 import io.github.tato126.practice.post.service.PostService;
+import io.github.tato126.practice.post.view.PostViewCounter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
 
 /**
  * 게시글 관련 HTTP 요청을 처리하는 컨트롤러 클래스입니다.
  * <p>
  * 게시글 생성, 목록 조회, 상세 조회 등의 REST API 엔드포인트를 제공합니다.
  * </p>
+ * <p>
+ * 조회 API는 ETag와 Last-Modified를 응답하며,
+ * 조건부 요청의 검증자가 일치하면 본문 없이 304 Not Modified를 반환합니다.
+ * </p>
  *
  * @author tato126
  * @since 1.0
@@ -33,15 +63,35 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final PostSearchService postSearchService;
+    private final PostImportService postImportService;
+    private final PostExportService postExportService;
+    private final PostResponseCache postResponseCache;
+    private final PostListVersion postListVersion;
+    private final PostViewCounter postViewCounter;
 
     @Operation(summary = "포스트 생성", description = "새로운 포스트를 생성합니다. (인증 필요)")
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
     public PostResponse createPost(
             @Valid @RequestBody PostRequest postRequest,
-            @Parameter(hidden = true) @AuthenticationPrincipal String userEmail
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        return postService.register(postRequest, userEmail);
+        return postService.register(postRequest, principal.userId());
+    }
+
+    @Operation(
+            summary = "포스트 일괄 가져오기",
+            description = "JSON 배열 또는 NDJSON(줄 단위 JSON) 본문의 포스트를 청크 단위로 저장합니다. (인증 필요)"
+    )
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public PostImportResponse importPosts(
+            @Parameter(hidden = true) HttpServletRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
+    ) throws IOException {
+        // 본문을 DTO 목록으로 바인딩하지 않고 스트림 그대로 전달 (행 단위로 읽음)
+        return postImportService.importPosts(request.getInputStream(), principal.userId());
     }
 
     @Operation(summary = "포스트 수정", description = "포스트를 수정합니다. (작성자 본인만 가능)")
@@ -50,9 +100,9 @@ public class PostController {
     public PostResponse updatePost(
             @PathVariable Long id,
             @Valid @RequestBody PostUpdateRequest postUpdateRequest,
-            @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal String userEmail
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        return postService.update(id, postUpdateRequest, userEmail);
+        return postService.update(id, postUpdateRequest, principal.userId());
     }
 
     @Operation(summary = "포스트 삭제", description = "포스트를 삭제합니다. (작성자 본인만 가능)")
@@ -60,30 +110,150 @@ public class PostController {
     @DeleteMapping("/{id}")
     public void deletePost(
             @PathVariable Long id,
-            @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal String userEmail
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
+    ) {
+        postService.delete(id, principal.userId());
+    }
+
+    @Operation(summary = "포스트 예약 발행", description = "DRAFT 포스트를 지정한 시각에 발행하도록 예약합니다. 이미 예약된 경우 시각을 변경합니다. (작성자 본인만 가능)")
+    @PutMapping("/{id}/schedule")
+    public PostScheduleResponse schedulePost(
+            @PathVariable Long id,
+            @Valid @RequestBody PostScheduleRequest postScheduleRequest,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
+    ) {
+        return postService.schedule(id, postScheduleRequest.publishAt(), principal.userId());
+    }
+
+    @Operation(summary = "포스트 예약 발행 취소", description = "DRAFT 포스트의 예약 발행을 취소합니다. (작성자 본인만 가능)")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @DeleteMapping("/{id}/schedule")
+    public void cancelSchedule(
+            @PathVariable Long id,
+            @Parameter(hidden = true) @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        postService.delete(id, userEmail);
+        postService.cancelSchedule(id, principal.userId());
     }
 
     @Operation(
             summary = "포스트 목록 조회",
-            description = "발행된 포스트 목록을 페이징하여 조회합니다. (기본: 20개씩, 생성일시 내림차순)"
+            description = "발행된 포스트 요약 목록을 페이징하여 조회합니다. 본문 대신 요약(excerpt)을 반환합니다. (기본: 20개씩, 생성일시 내림차순)"
     )
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping
-    public Page<PostResponse> getPosts(
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    public ResponseEntity<Page<PostSummaryResponse>> getPosts(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(hidden = true) WebRequest request
     ) {
-        return postService.findAllPosts(pageable);
+        // 1. 메모리의 목록 버전으로 ETag/Last-Modified 계산 (DB 조회 없음)
+        PostListVersion.Version version = postListVersion.current();
+        String etag = PostValidators.etag(version.value(), pageable.toString());
+
+        // 2. 변경이 없으면 목록 조회와 직렬화 없이 304
+        if (request.checkNotModified(etag, version.changedAt())) {
+            return null;
+        }
+
+        // 3. 목록 조회 (조회 중 변경되면 다음 요청에서 ETag가 달라지므로 안전)
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(version.changedAt())
+                .cacheControl(CacheControl.noCache())
+                .body(postService.findAllPosts(pageable));
     }
 
-    @Operation(summary = "포스트 상세 조회", description = "특정 포스트의 상세 정보를 조회합니다.")
+    @Operation(
+            summary = "포스트 커서 목록 조회",
+            description = "발행된 포스트 요약 목록을 (생성일시, ID) 커서 기반으로 조회합니다. COUNT 쿼리 없이 다음/이전 커서를 반환합니다."
+    )
+    @GetMapping("/cursor")
+    public ResponseEntity<PostSliceResponse> getPostsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor 또는 previousCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 방향 (NEXT: 다음 페이지, PREV: 이전 페이지)", example = "NEXT")
+            @RequestParam(defaultValue = "NEXT") PostCursor.Direction direction,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) WebRequest request
+    ) {
+        PostListVersion.Version version = postListVersion.current();
+        String etag = PostValidators.etag(version.value(), cursor + ":" + direction + ":" + size);
+        if (request.checkNotModified(etag, version.changedAt())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(version.changedAt())
+                .cacheControl(CacheControl.noCache())
+                .body(postService.findPostsByCursor(cursor, direction, size));
+    }
+
+    @Operation(
+            summary = "포스트 내보내기",
+            description = "발행된 포스트 전체를 ID 순서로 NDJSON(줄 단위 JSON)으로 스트리밍합니다. (인증 필요)"
+    )
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportPosts(@Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("posts-" + LocalDate.now() + ".ndjson")
+                .build()
+                .toString());
+
+        // 응답 스트림에 직접 쓰므로 전체 결과를 메모리에 모으지 않는다
+        postExportService.exportPublished(response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "포스트 검색",
+            description = "발행된 포스트를 제목/본문으로 검색합니다. 관련도(BM25) 순으로 정렬되며, 한글은 두 글자 단위로 부분 일치합니다."
+    )
     @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/search")
+    public Page<PostSummaryResponse> searchPosts(
+            @Parameter(description = "검색어", required = true, example = "스프링 boot")
+            @RequestParam String q,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        return postSearchService.search(q, pageable);
+    }
+
+    @Operation(summary = "포스트 상세 조회", description = "특정 포스트의 상세 정보를 조회합니다.")
     @GetMapping("/{id}")
-    public PostResponse getPost(
+    public ResponseEntity<PostResponse> getPost(
             @Parameter(description = "포스트 ID", required = true, example = "1")
-            @PathVariable Long id
-    ) {
-        return postService.findByPostId(id);
+            @PathVariable Long id,
+            @Parameter(hidden = true) ServletWebRequest request
+    ) throws IOException {
+        // 1. 직렬화된 응답 캐시 적중 시 바이트를 바로 응답 (304 포함)
+        //    304 재검증은 새로 읽은 것이 아니므로 조회수에 포함하지 않는다
+        if (postResponseCache.serve(id, request)) {
+            if (!request.isNotModified()) {
+                postViewCounter.increment(id);
+            }
+            return null;
+        }
+
+        // 2. 조회 전 스탬프를 받아 두어 조회 중 무효화된 응답은 저장하지 않는다
+        long stamp = postResponseCache.stamp();
+        PostResponse post = postService.findByPostId(id);
+        postResponseCache.put(post, stamp);
+
+        // 3. ID/수정일시 검증자가 일치하면 조회수 증가 없이 304
+        String etag = PostValidators.etag(post);
+        ZonedDateTime lastModified = PostValidators.lastModified(post);
+        if (request.checkNotModified(etag, lastModified.toInstant().toEpochMilli())) {
+            return null;
+        }
+
+        // 4. 조회수 증가 (메모리에 기록, 주기적으로 일괄 반영)
+        postViewCounter.increment(id);
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache())
+                .body(post);
     }
 }
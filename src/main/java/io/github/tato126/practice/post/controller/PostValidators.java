@@ -0,0 +1,69 @@
+package io.github.tato126.practice.post.controller;
+
+import io.github.tato126.practice.post.dto.response.PostResponse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 게시글 응답의 HTTP 검증자(ETag, Last-Modified)를 계산하는 유틸리티 클래스입니다.
+ * <p>
+ * 본문을 해시하지 않고 게시글 ID와 수정일시로 계산하므로, 직렬화 전에 304 응답 여부를 판단할 수 있습니다.
+ * 같은 내용이라도 JSON 표현(압축 등)이 달라질 수 있어 약한(weak) ETag를 사용합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public final class PostValidators {
+
+    private PostValidators() {
+    }
+
+    /**
+     * 게시글 상세 응답의 ETag를 계산합니다.
+     * <p>
+     * 조회수는 검증자에 포함하지 않습니다. 조회수가 바뀔 때마다 검증자가 바뀌면 재검증이 항상 200이 되므로,
+     * 재검증하는 클라이언트에는 다음 수정 전까지 이전 조회수가 보일 수 있습니다.
+     * </p>
+     *
+     * @param post 게시글 응답
+     * @return {@code W/"<id>-<수정일시 밀리초>"} 형식의 ETag
+     */
+    public static String etag(PostResponse post) {
+        return "W/\"" + post.id() + "-" + toEpochMilli(post.updatedAt()) + "\"";
+    }
+
+    /**
+     * 게시글 상세 응답의 Last-Modified 값을 계산합니다.
+     *
+     * @param post 게시글 응답
+     * @return 수정일시
+     */
+    public static ZonedDateTime lastModified(PostResponse post) {
+        return post.updatedAt().atZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * 게시글 목록 응답의 ETag를 계산합니다.
+     * <p>
+     * 목록의 Last-Modified는 목록 버전의 마지막 변경 시각을 사용합니다.
+     * 같은 목록 버전이라도 페이지/정렬/커서가 다르면 다른 ETag가 되도록 요청 조건을 함께 반영합니다.
+     * </p>
+     *
+     * @param version 게시글 목록 버전 ({@link io.github.tato126.practice.post.cache.PostListVersion})
+     * @param query   페이지/정렬/커서 등 요청 조건
+     * @return {@code W/"<목록 버전>-<조건 해시>"} 형식의 ETag
+     */
+    public static String etag(long version, String query) {
+        return "W/\"" + Long.toHexString(version) + "-" + Integer.toHexString(query.hashCode()) + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0L;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.tato126.practice.post.dto.request;
+
+import io.github.tato126.practice.common.excetion.post.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징의 위치를 나타내는 값 객체입니다.
+ * <p>
+ * 게시글 목록의 정렬 키인 (createdAt, id) 쌍을 Base64 URL 문자열로 인코딩하여
+ * 클라이언트에게는 불투명한(opaque) 토큰으로 전달합니다.
+ * </p>
+ *
+ * @param createdAt 기준 게시글의 생성일시
+ * @param id        기준 게시글 ID (동일 생성일시의 순서를 보장)
+ * @author tato126
+ * @since 1.0
+ */
+public record PostCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "_";
+
+    /**
+     * 커서 조회 방향입니다.
+     */
+    public enum Direction {
+        NEXT,
+        PREV
+    }
+
+    /**
+     * 커서를 Base64 URL 토큰으로 인코딩합니다.
+     *
+     * @return 인코딩된 커서 토큰
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Base64 URL 토큰을 커서로 디코딩합니다.
+     *
+     * @param token 인코딩된 커서 토큰
+     * @return 디코딩된 커서
+     * @throws InvalidCursorException 토큰 형식이 올바르지 않은 경우
+     */
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.tato126.practice.post.dto.request;
+
+import io.github.tato126.practice.post.entity.Post;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+/**
+ * 게시글 일괄 가져오기의 한 행을 나타내는 DTO입니다.
+ * <p>
+ * 기존 블로그 아카이브를 옮기기 위한 용도이므로, 제목/내용은 일반 작성보다 넓은 범위를 허용하며
+ * 게시 상태를 함께 지정할 수 있습니다. 검증에 실패한 행은 건너뛰고 거부 건수로 집계됩니다.
+ * </p>
+ *
+ * @param title   게시글 제목 (최대 255자)
+ * @param content 게시글 내용
+ * @param status  게시 상태 (생략 시 DRAFT)
+ * @author tato126
+ * @since 1.0
+ */
+@Builder
+public record PostImportRequest(
+
+        @NotBlank(message = "제목은 필수 입니다.")
+        @Size(max = 255, message = "제목은 255자 이하여야 합니다.")
+        String title,
+
+        @NotBlank(message = "내용은 필수입니다.")
+        String content,
+
+        Post.PostStatus status
+) {
+}
@@ -0,0 +1,20 @@
+package io.github.tato126.practice.post.dto.request;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 예약 발행 요청 DTO입니다.
+ *
+ * @param publishAt 발행할 시각 (현재보다 이후여야 함)
+ * @author tato126
+ * @since 1.0
+ */
+public record PostScheduleRequest(
+        @NotNull(message = "발행 시각은 필수입니다.")
+        @Future(message = "발행 시각은 현재 이후여야 합니다.")
+        LocalDateTime publishAt
+) {
+}
@@ -0,0 +1,40 @@
+package io.github.tato126.practice.post.dto.response;
+
+import lombok.Builder;
+
+/**
+ * 게시글 일괄 가져오기 결과 응답 DTO입니다.
+ *
+ * @param imported      저장된 게시글 수
+ * @param rejected      검증에 실패하여 건너뛴 행 수
+ * @param elapsedMillis 처리 시간 (밀리초)
+ * @param rowsPerSecond 초당 저장 건수
+ * @author tato126
+ * @since 1.0
+ */
+@Builder
+public record PostImportResponse(
+        int imported,
+        int rejected,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+
+    /**
+     * 처리 건수와 소요 시간으로 결과 응답을 생성합니다.
+     *
+     * @param imported     저장된 게시글 수
+     * @param rejected     건너뛴 행 수
+     * @param elapsedNanos 처리 시간 (나노초)
+     * @return PostImportResponse DTO
+     */
+    public static PostImportResponse of(int imported, int rejected, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return PostImportResponse.builder()
+                .imported(imported)
+                .rejected(rejected)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .rowsPerSecond(seconds > 0 ? Math.round(imported / seconds * 10) / 10.0 : imported)
+                .build();
+    }
+}
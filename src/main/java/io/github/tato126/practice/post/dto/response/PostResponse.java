@@ -18,6 +18,7 @@ import java.time.LocalDateTime;
  * @param userId    작성자 아이디
  * @param nickname  작성자명
  * @param status    게시 상태 (DRAFT/PUBLISHED)
+ * @param views     조회수 (주기적으로 반영되므로 최근 조회는 늦게 반영될 수 있음)
  * @param createdAt 생성일시
  * @param updatedAt 수정일시
  * @author tato126
@@ -31,6 +32,7 @@ public record PostResponse(
         Long userId,
         String nickname,
         Post.PostStatus status,
+        long views,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 
@@ -50,6 +52,7 @@ public record PostResponse(
                 .userId(post.getAuthor().getId())
                 .nickname(post.getAuthor().getUsername())
                 .status(post.getStatus())
+                .views(post.getViews())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
@@ -0,0 +1,38 @@
+package io.github.tato126.practice.post.dto.response;
+
+import io.github.tato126.practice.post.entity.Post;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 예약 발행 결과 응답 DTO입니다.
+ *
+ * @param id        게시글 ID
+ * @param status    게시글 상태 (발행 전까지 DRAFT)
+ * @param publishAt 예약된 발행 시각
+ * @author tato126
+ * @since 1.0
+ */
+@Builder
+public record PostScheduleResponse(
+        Long id,
+        Post.PostStatus status,
+        LocalDateTime publishAt
+) {
+
+    /**
+     * 예약된 게시글 정보로 응답을 생성합니다.
+     *
+     * @param id        게시글 ID
+     * @param publishAt 예약된 발행 시각
+     * @return PostScheduleResponse DTO
+     */
+    public static PostScheduleResponse of(Long id, LocalDateTime publishAt) {
+        return PostScheduleResponse.builder()
+                .id(id)
+                .status(Post.PostStatus.DRAFT)
+                .publishAt(publishAt)
+                .build();
+    }
+}
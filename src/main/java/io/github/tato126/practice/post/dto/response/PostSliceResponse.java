@@ -0,0 +1,57 @@
+package io.github.tato126.practice.post.dto.response;
+
+import io.github.tato126.practice.post.dto.request.PostCursor;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 목록 응답 DTO입니다.
+ * <p>
+ * COUNT 쿼리 없이 현재 페이지와 다음/이전 페이지 존재 여부, 이동용 커서만 제공합니다.
+ * </p>
+ *
+ * @param content        게시글 요약 목록
+ * @param size           요청한 페이지 크기
+ * @param hasNext        다음 페이지 존재 여부
+ * @param hasPrevious    이전 페이지 존재 여부
+ * @param nextCursor     다음 페이지 조회용 커서 (없으면 null)
+ * @param previousCursor 이전 페이지 조회용 커서 (없으면 null)
+ * @author tato126
+ * @since 1.0
+ */
+@Builder
+public record PostSliceResponse(
+        List<PostSummaryResponse> content,
+        int size,
+        boolean hasNext,
+        boolean hasPrevious,
+        String nextCursor,
+        String previousCursor
+) {
+
+    /**
+     * 게시글 목록과 페이지 존재 여부로 커서 응답을 생성합니다.
+     *
+     * @param content     생성일시 내림차순으로 정렬된 게시글 목록
+     * @param size        요청한 페이지 크기
+     * @param hasNext     다음 페이지 존재 여부
+     * @param hasPrevious 이전 페이지 존재 여부
+     * @return PostSliceResponse DTO
+     */
+    public static PostSliceResponse of(List<PostSummaryResponse> content, int size, boolean hasNext, boolean hasPrevious) {
+        boolean empty = content.isEmpty();
+        return PostSliceResponse.builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .hasPrevious(hasPrevious)
+                .nextCursor(hasNext && !empty ? cursorOf(content.getLast()) : null)
+                .previousCursor(hasPrevious && !empty ? cursorOf(content.getFirst()) : null)
+                .build();
+    }
+
+    private static String cursorOf(PostSummaryResponse post) {
+        return new PostCursor(post.createdAt(), post.id()).encode();
+    }
+}
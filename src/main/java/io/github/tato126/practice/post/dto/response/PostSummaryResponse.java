@@ -0,0 +1,56 @@
+package io.github.tato126.practice.post.dto.response;
+
+import io.github.tato126.practice.post.entity.Post;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 응답 DTO입니다.
+ * <p>
+ * 목록 화면에 필요한 정보만 담으며, 본문 대신 작성 시점에 계산된 요약(최대 {@value Post#EXCERPT_LENGTH}자)을 제공합니다.
+ * 본문 전체는 상세 조회 API로 조회합니다.
+ * </p>
+ *
+ * @param id        게시글 ID
+ * @param title     게시글 제목
+ * @param excerpt   본문 요약
+ * @param userId    작성자 아이디
+ * @param nickname  작성자명
+ * @param status    게시 상태 (DRAFT/PUBLISHED)
+ * @param createdAt 생성일시
+ * @param updatedAt 수정일시
+ * @author tato126
+ * @since 1.0
+ */
+@Builder
+public record PostSummaryResponse(
+        Long id,
+        String title,
+        String excerpt,
+        Long userId,
+        String nickname,
+        Post.PostStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Post 엔티티를 PostSummaryResponse DTO로 변환합니다.
+     *
+     * @param post Post 엔티티
+     * @return PostSummaryResponse DTO
+     */
+    public static PostSummaryResponse form(Post post) {
+        return PostSummaryResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .excerpt(post.getExcerpt())
+                .userId(post.getAuthor().getId())
+                .nickname(post.getAuthor().getUsername())
+                .status(post.getStatus())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+}
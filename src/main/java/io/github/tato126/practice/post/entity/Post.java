@@ -18,6 +18,18 @@ import java.time.LocalDateTime;
  * 제목, 내용, 작성자명, 게시 상태(DRAFT/PUBLISHED) 등의 게시글 정보를 저장합니다.
  * JPA Auditing을 통해 생성일시와 수정일시가 자동으로 관리됩니다.
  * </p>
+ * <p>
+ * 본문은 LOB 컬럼에 저장되며, 목록 조회용 요약(excerpt)은 작성/수정 시점에 미리 계산하여
+ * 별도 컬럼에 저장합니다. 목록 조회는 요약 컬럼만 프로젝션하므로 본문을 읽지 않습니다.
+ * </p>
+ * <p>
+ * 조회수(views)는 엔티티를 통해 변경하지 않으며, {@code PostViewCounter}가 메모리에 모은 증가분을
+ * 주기적으로 일괄 UPDATE 합니다.
+ * </p>
+ * <p>
+ * 예약 발행 시각(publishAt)은 DRAFT 게시글에만 설정되며, {@code PostPublishScheduler}가 시각이 되면
+ * 일괄 UPDATE로 PUBLISHED로 전환하고 값을 비웁니다.
+ * </p>
  *
  * @author tato126
  * @since 1.0
@@ -28,14 +40,25 @@ import java.time.LocalDateTime;
 @Entity
 public class Post {
 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /**
+     * 요약의 최대 길이 (코드 포인트 기준)
+     */
+    public static final int EXCERPT_LENGTH = 100;
+
+    // IDENTITY는 INSERT마다 키를 받아야 해서 JDBC 배치가 꺼지므로, 시퀀스에서 50개 단위로 미리 할당
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
     @Id
     private Long id;
 
     private String title;
 
+    @Lob
     private String content;
 
+    @Column(length = EXCERPT_LENGTH * 2 + 1)
+    private String excerpt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User author;
@@ -43,6 +66,11 @@ public class Post {
     @Enumerated(EnumType.STRING)
     private PostStatus status = PostStatus.DRAFT;
 
+    @Column(nullable = false)
+    private long views;
+
+    private LocalDateTime publishAt;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -57,12 +85,14 @@ public class Post {
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
     }
 
     @Builder
     public Post(String title, String content, User author, PostStatus status) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
         this.author = author;
         this.status = (status != null) ? status : PostStatus.DRAFT;
     }
@@ -74,4 +104,26 @@ public class Post {
                 .author(author)
                 .build();
     }
+
+    /**
+     * 본문으로부터 목록 조회용 요약을 생성합니다.
+     * <p>
+     * 연속된 공백/개행을 공백 하나로 줄인 뒤 최대 {@value #EXCERPT_LENGTH}개의 코드 포인트로 자르며,
+     * 잘린 경우 말줄임표를 붙입니다. 코드 포인트 단위로 자르므로 서로게이트 쌍(이모지 등)이 깨지지 않습니다.
+     * </p>
+     *
+     * @param content 게시글 본문
+     * @return 요약 (본문이 null이면 null)
+     */
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.codePointCount(0, normalized.length()) <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+        int end = normalized.offsetByCodePoints(0, EXCERPT_LENGTH);
+        return normalized.substring(0, end).stripTrailing() + "…";
+    }
 }
@@ -0,0 +1,29 @@
+package io.github.tato126.practice.post.event;
+
+/**
+ * 게시글이 생성/수정/삭제되었음을 알리는 이벤트입니다.
+ * <p>
+ * PostService가 트랜잭션 안에서 발행하며, 캐시 등 파생 데이터는
+ * {@code @TransactionalEventListener}로 커밋 이후에만 반영합니다.
+ * </p>
+ *
+ * @param postId 변경된 게시글 ID
+ * @param type   변경 유형
+ * @author tato126
+ * @since 1.0
+ */
+public record PostChangedEvent(
+        Long postId,
+        Type type
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static PostChangedEvent of(Long postId, Type type) {
+        return new PostChangedEvent(postId, type);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.tato126.practice.post.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글의 예약 발행이 설정/변경/취소되었음을 알리는 이벤트입니다.
+ * <p>
+ * 커밋 후 {@code PostPublishScheduler}가 받아 대기열에 반영합니다.
+ * </p>
+ *
+ * @param postId    게시글 ID
+ * @param publishAt 예약 발행 시각 (취소 시 null)
+ * @author tato126
+ * @since 1.0
+ */
+public record PostScheduledEvent(
+        Long postId,
+        LocalDateTime publishAt
+) {
+}
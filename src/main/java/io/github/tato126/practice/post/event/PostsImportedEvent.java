@@ -0,0 +1,19 @@
+package io.github.tato126.practice.post.event;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 가져오기에서 한 청크가 저장되었음을 알리는 이벤트입니다.
+ * <p>
+ * 게시글마다 {@link PostChangedEvent}를 발행하면 구독자가 게시글마다 조회하게 되므로,
+ * 청크 단위로 ID를 묶어 발행합니다.
+ * </p>
+ *
+ * @param postIds 저장된 게시글 ID 목록
+ * @author tato126
+ * @since 1.0
+ */
+public record PostsImportedEvent(
+        List<Long> postIds
+) {
+}
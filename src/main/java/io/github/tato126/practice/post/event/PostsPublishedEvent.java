@@ -0,0 +1,20 @@
+package io.github.tato126.practice.post.event;
+
+import java.util.List;
+
+/**
+ * 예약된 게시글들이 한 번의 일괄 UPDATE로 발행되었음을 알리는 이벤트입니다.
+ * <p>
+ * 커밋 후 검색 색인이 한 번의 조회로 새 발행 게시글을 색인합니다.
+ * DRAFT 게시글은 응답 캐시에 저장되지 않으므로 제거할 캐시 항목은 없으며,
+ * 목록의 ETag는 게시글 수와 최종 수정일시로 계산되므로 다음 요청부터 바뀝니다.
+ * </p>
+ *
+ * @param postIds 발행된 게시글 ID
+ * @author tato126
+ * @since 1.0
+ */
+public record PostsPublishedEvent(
+        List<Long> postIds
+) {
+}
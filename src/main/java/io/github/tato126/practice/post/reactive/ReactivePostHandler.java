@@ -0,0 +1,99 @@
+package io.github.tato126.practice.post.reactive;
+
+import io.github.tato126.practice.common.dto.ErrorResponse;
+import io.github.tato126.practice.post.dto.response.PostResponse;
+import io.github.tato126.practice.post.dto.response.PostSummaryResponse;
+import io.github.tato126.practice.post.view.PostViewCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 게시글 조회 API의 핸들러입니다.
+ * <p>
+ * {@link ReactivePostServer}의 라우터에 등록되며, MVC의 {@code PostController}와 같은 경로/응답 DTO를 사용합니다.
+ * 목록은 전체 개수(COUNT) 없이 요약 배열만 반환하고, 전체 목록은 NDJSON 스트림으로 제공합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class ReactivePostHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ReactivePostRepository reactivePostRepository;
+    private final PostViewCounter postViewCounter;
+
+    /**
+     * 발행 게시글 목록의 한 페이지를 반환합니다. ({@code GET /api/posts?page=&size=})
+     *
+     * @param request 요청
+     * @return 게시글 요약 배열
+     */
+    public Mono<ServerResponse> list(ServerRequest request) {
+        int page = Math.max(0, intParam(request, "page", 0));
+        int size = Math.clamp(intParam(request, "size", DEFAULT_PAGE_SIZE), 1, MAX_PAGE_SIZE);
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reactivePostRepository.findPublishedSummaries((long) page * size, size), PostSummaryResponse.class);
+    }
+
+    /**
+     * 모든 발행 게시글 요약을 NDJSON으로 스트리밍합니다. ({@code GET /api/posts/stream})
+     * <p>
+     * 클라이언트가 읽는 속도에 맞춰 DB에서 가져오므로 느린 클라이언트도 메모리에 결과를 쌓지 않습니다.
+     * </p>
+     *
+     * @param request 요청
+     * @return 게시글 요약 스트림
+     */
+    public Mono<ServerResponse> stream(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(reactivePostRepository.streamPublishedSummaries(), PostSummaryResponse.class);
+    }
+
+    /**
+     * 발행 게시글 상세를 반환합니다. ({@code GET /api/posts/{id}})
+     *
+     * @param request 요청
+     * @return 게시글 상세, 없으면 404
+     */
+    public Mono<ServerResponse> detail(ServerRequest request) {
+        Long id = Long.valueOf(request.pathVariable("id"));
+        return reactivePostRepository.findPublishedById(id)
+                .flatMap(post -> {
+                    // 조회수는 MVC 경로와 같은 메모리 카운터에 기록
+                    postViewCounter.increment(id);
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(post);
+                })
+                .switchIfEmpty(Mono.defer(() -> error(HttpStatus.NOT_FOUND,
+                        "해당 포스트를 찾을 수 없습니다. ID: " + id, "POST_NOT_FOUND")));
+    }
+
+    /**
+     * 오류 응답을 생성합니다.
+     *
+     * @param status  HTTP 상태
+     * @param message 오류 메시지
+     * @param code    애플리케이션 오류 코드
+     * @return 오류 응답
+     */
+    public Mono<ServerResponse> error(HttpStatus status, String message, String code) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ErrorResponse.of(message, status.value(), code));
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        return request.queryParam(name).map(Integer::parseInt).orElse(defaultValue);
+    }
+}
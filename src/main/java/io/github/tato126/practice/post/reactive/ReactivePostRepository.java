@@ -0,0 +1,148 @@
+package io.github.tato126.practice.post.reactive;
+
+import io.github.tato126.practice.post.dto.response.PostResponse;
+import io.github.tato126.practice.post.dto.response.PostSummaryResponse;
+import io.github.tato126.practice.post.entity.Post;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC로 발행 게시글을 조회하는 논블로킹 저장소입니다.
+ * <p>
+ * JPA와 같은 H2 스키마를 {@link DatabaseClient}로 직접 조회하며, 목록은 요약 컬럼만, 상세는 본문(CLOB)을
+ * {@code VARCHAR}로 변환해 읽습니다. 결과는 구독자의 요청량(demand)만큼만 드라이버에서 가져옵니다.
+ * </p>
+ * <p>
+ * {@code ConnectionFactory}를 Bean으로 등록하면 Spring Boot의 JDBC {@code DataSource} 자동 설정이
+ * 비활성화되므로, 커넥션 풀은 이 클래스 안에서만 생성하고 종료합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactivePostRepository {
+
+    private static final String SUMMARY_SQL = """
+            select p.id, p.title, p.excerpt, p.user_id, u.username, p.status, p.created_at, p.updated_at
+            from post p join users u on u.id = p.user_id
+            where p.status = :status
+            order by p.created_at desc, p.id desc
+            """;
+
+    private static final String DETAIL_SQL = """
+            select p.id, p.title, cast(p.content as varchar) as content, p.user_id, u.username, p.status, p.views,
+                   p.created_at, p.updated_at
+            from post p join users u on u.id = p.user_id
+            where p.id = :id and p.status = :status
+            """;
+
+    private static final String PUBLISHED = Post.PostStatus.PUBLISHED.name();
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+
+    /**
+     * ReactivePostRepository를 초기화합니다.
+     *
+     * @param url      R2DBC URL (예: {@code r2dbc:pool:h2:mem:///devblog?maxSize=20})
+     * @param username DB 사용자
+     * @param password DB 비밀번호
+     */
+    public ReactivePostRepository(@Value("${reactive.r2dbc.url}") String url,
+                                  @Value("${reactive.r2dbc.username:sa}") String username,
+                                  @Value("${reactive.r2dbc.password:}") String password) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionFactory = ConnectionFactories.get(options);
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * 발행 게시글 요약 목록의 한 페이지를 조회합니다.
+     *
+     * @param offset 건너뛸 게시글 수
+     * @param limit  조회할 게시글 수
+     * @return 최신순 게시글 요약
+     */
+    public Flux<PostSummaryResponse> findPublishedSummaries(long offset, int limit) {
+        return databaseClient.sql(SUMMARY_SQL + "limit :limit offset :offset")
+                .bind("status", PUBLISHED)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactivePostRepository::toSummary)
+                .all();
+    }
+
+    /**
+     * 모든 발행 게시글 요약을 스트리밍합니다. 구독자가 요청한 만큼만 읽습니다.
+     *
+     * @return 최신순 게시글 요약 스트림
+     */
+    public Flux<PostSummaryResponse> streamPublishedSummaries() {
+        return databaseClient.sql(SUMMARY_SQL)
+                .bind("status", PUBLISHED)
+                .map(ReactivePostRepository::toSummary)
+                .all();
+    }
+
+    /**
+     * 발행 게시글 상세를 조회합니다.
+     *
+     * @param id 게시글 ID
+     * @return 게시글 상세 (없거나 발행되지 않았으면 빈 Mono)
+     */
+    public Mono<PostResponse> findPublishedById(Long id) {
+        return databaseClient.sql(DETAIL_SQL)
+                .bind("id", id)
+                .bind("status", PUBLISHED)
+                .map(row -> new PostResponse(
+                        row.get("id", Long.class),
+                        row.get("title", String.class),
+                        row.get("content", String.class),
+                        row.get("user_id", Long.class),
+                        row.get("username", String.class),
+                        Post.PostStatus.valueOf(row.get("status", String.class)),
+                        row.get("views", Long.class),
+                        row.get("created_at", LocalDateTime.class),
+                        row.get("updated_at", LocalDateTime.class)))
+                .one();
+    }
+
+    private static PostSummaryResponse toSummary(Readable row) {
+        return new PostSummaryResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("excerpt", String.class),
+                row.get("user_id", Long.class),
+                row.get("username", String.class),
+                Post.PostStatus.valueOf(row.get("status", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+
+    /**
+     * 애플리케이션 종료 시 R2DBC 커넥션 풀을 정리합니다.
+     */
+    @PreDestroy
+    public void close() {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.tato126.practice.post.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.tato126.practice.post.view.PostViewCounter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 논블로킹 게시글 조회 API를 별도 포트의 Reactor Netty 서버로 제공하는 컴포넌트입니다.
+ * <p>
+ * {@code reactive.enabled=true}일 때만 활성화되며, 기존 MVC(Tomcat) 애플리케이션은 그대로 두고
+ * 함수형 라우터로 발행 게시글의 목록/스트림/상세 조회만 {@code reactive.port}에서 처리합니다.
+ * 공개 조회 전용이므로 Spring Security 필터 체인을 거치지 않습니다.
+ * </p>
+ * <p>
+ * JSON 직렬화는 애플리케이션의 {@link ObjectMapper}를 사용하여 MVC 응답과 같은 형식(날짜 문자열 등)을 유지합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+public class ReactivePostServer {
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private DisposableServer server;
+
+    /**
+     * ReactivePostServer를 초기화합니다.
+     *
+     * @param reactivePostRepository R2DBC 게시글 저장소
+     * @param postViewCounter        조회수 카운터
+     * @param objectMapper           JSON 직렬화용 ObjectMapper
+     * @param port                   서버 포트 (0이면 임의 포트)
+     */
+    public ReactivePostServer(ReactivePostRepository reactivePostRepository,
+                              PostViewCounter postViewCounter,
+                              ObjectMapper objectMapper,
+                              @Value("${reactive.port:8081}") int port) {
+        ReactivePostHandler handler = new ReactivePostHandler(reactivePostRepository, postViewCounter);
+
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/api/posts", handler::list)
+                .GET("/api/posts/stream", handler::stream)
+                .GET("/api/posts/{id:\\d+}", handler::detail)
+                .onError(NumberFormatException.class, (e, request) ->
+                        handler.error(HttpStatus.BAD_REQUEST, "잘못된 요청 파라미터입니다.", "INVALID_PARAMETER"))
+                .build();
+
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+
+        this.httpHandler = RouterFunctions.toHttpHandler(routes, strategies);
+        this.port = port;
+    }
+
+    /**
+     * Reactor Netty 서버를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive post API started on port {}", server.port());
+    }
+
+    /**
+     * 서버가 바인딩된 포트를 반환합니다.
+     *
+     * @return 실제 포트
+     */
+    public int port() {
+        return server.port();
+    }
+
+    /**
+     * 애플리케이션 종료 시 서버를 중지합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        server.disposeNow();
+    }
+}
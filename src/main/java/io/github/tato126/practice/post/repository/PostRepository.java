@@ -1,10 +1,25 @@
 package io.github.tato126.practice.post.repository;
 
 import io.github.tato126.practice.post.dto.response.PostResponse;
+import io.github.tato126.practice.post.dto.response.PostSummaryResponse;
 import io.github.tato126.practice.post.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 게시글 데이터 접근을 위한 Repository 인터페이스입니다.
@@ -26,4 +41,282 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     Page<Post> findAllByStatus(Post.PostStatus postStatus, Pageable pageable);
 
+    /**
+     * 게시글 하나를 작성자와 조인하여 응답 DTO로 바로 조회합니다.
+     *
+     * @param id 조회할 게시글 ID
+     * @return 게시글 응답 (Optional)
+     */
+    @Query("""
+            select new io.github.tato126.practice.post.dto.response.PostResponse(
+                p.id, p.title, p.content, a.id, a.username, p.status, p.views, p.createdAt, p.updatedAt)
+            from Post p join p.author a
+            where p.id = :id
+            """)
+    Optional<PostResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * 작성자 본인의 게시글만 단일 UPDATE 문으로 수정합니다.
+     * <p>
+     * 벌크 연산이므로 JPA Auditing이 동작하지 않아 수정일시와 요약을 직접 전달해야 합니다.
+     * </p>
+     *
+     * @param id        수정할 게시글 ID
+     * @param userId    작성자 ID
+     * @param title     변경할 제목
+     * @param content   변경할 내용
+     * @param excerpt   변경된 내용의 요약 ({@link Post#excerptOf(String)})
+     * @param updatedAt 수정일시
+     * @return 수정된 행 수 (게시글이 없거나 작성자가 아니면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Post p
+            set p.title = :title, p.content = :content, p.excerpt = :excerpt, p.updatedAt = :updatedAt
+            where p.id = :id and p.author.id = :userId
+            """)
+    int updateByIdAndAuthorId(@Param("id") Long id,
+                              @Param("userId") Long userId,
+                              @Param("title") String title,
+                              @Param("content") String content,
+                              @Param("excerpt") String excerpt,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 작성자 본인의 게시글만 단일 DELETE 문으로 삭제합니다.
+     *
+     * @param id     삭제할 게시글 ID
+     * @param userId 작성자 ID
+     * @return 삭제된 행 수 (게시글이 없거나 작성자가 아니면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from Post p
+            where p.id = :id and p.author.id = :userId
+            """)
+    int deleteByIdAndAuthorId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 작성자 본인의 DRAFT 게시글에 예약 발행 시각을 단일 UPDATE 문으로 설정합니다.
+     * <p>
+     * 이미 예약된 게시글이면 시각을 바꾸며, {@code publishAt}이 null이면 예약을 취소합니다.
+     * </p>
+     *
+     * @param id        게시글 ID
+     * @param userId    작성자 ID
+     * @param publishAt 예약 발행 시각 (취소 시 null)
+     * @param updatedAt 수정일시
+     * @return 수정된 행 수 (게시글이 없거나, 작성자가 아니거나, DRAFT가 아니면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Post p
+            set p.publishAt = :publishAt, p.updatedAt = :updatedAt
+            where p.id = :id and p.author.id = :userId
+              and p.status = io.github.tato126.practice.post.entity.Post.PostStatus.DRAFT
+            """)
+    int updatePublishAtByIdAndAuthorId(@Param("id") Long id,
+                                       @Param("userId") Long userId,
+                                       @Param("publishAt") LocalDateTime publishAt,
+                                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 주어진 ID 중 아직 발행을 기다리는 DRAFT 게시글의 예약을 조회합니다.
+     * <p>
+     * 예약 시각이 지나지 않은 게시글도 함께 반환하므로, 호출자가 다시 대기열에 등록할 수 있습니다.
+     * </p>
+     *
+     * @param ids 발행 후보 게시글 ID
+     * @return 게시글 ID와 현재 예약 발행 시각
+     */
+    @Query("""
+            select new io.github.tato126.practice.post.schedule.PendingPublish(p.id, p.publishAt)
+            from Post p
+            where p.id in :ids
+              and p.status = io.github.tato126.practice.post.entity.Post.PostStatus.DRAFT
+              and p.publishAt is not null
+            """)
+    List<PendingPublish> findPendingPublishesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 게시글을 한 번의 UPDATE 문으로 발행합니다.
+     * <p>
+     * 예약 시각이 지난 DRAFT 게시글만 전환하므로, 그 사이 취소/변경/삭제된 게시글은 제외됩니다.
+     * 생성일시(감사 값이자 목록 커서의 정렬 키)는 바꾸지 않으므로, 발행된 게시글은 작성한 시점의 위치에 노출됩니다.
+     * </p>
+     *
+     * @param ids 발행할 게시글 ID
+     * @param now 발행 시각
+     * @return 발행된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Post p
+            set p.status = io.github.tato126.practice.post.entity.Post.PostStatus.PUBLISHED,
+                p.publishAt = null, p.updatedAt = :now
+            where p.id in :ids
+              and p.status = io.github.tato126.practice.post.entity.Post.PostStatus.DRAFT
+              and p.publishAt <= :now
+            """)
+    int publishDue(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 발행을 기다리는 모든 예약을 예약 시각 순으로 조회합니다. (기동 시 복구용)
+     *
+     * @return 게시글 ID와 예약 발행 시각
+     */
+    @Query("""
+            select new io.github.tato126.practice.post.schedule.PendingPublish(p.id, p.publishAt)
+            from Post p
+            where p.status = io.github.tato126.practice.post.entity.Post.PostStatus.DRAFT
+              and p.publishAt is not null
+            order by p.publishAt
+            """)
+    List<PendingPublish> findPendingPublishes();
+
+    /**
+     * 특정 상태의 게시글 목록을 작성자와 조인하여 요약 DTO로 바로 조회합니다.
+     * <p>
+     * JPQL 생성자 표현식을 사용하므로 엔티티와 지연 로딩 프록시를 만들지 않으며,
+     * 작성자 정보 조회를 위한 추가 쿼리(N+1)가 발생하지 않습니다.
+     * 본문(LOB) 대신 요약 컬럼만 조회합니다.
+     * </p>
+     *
+     * @param postStatus 조회할 게시글 상태 (DRAFT/PUBLISHED)
+     * @param pageable   페이지 정보 (페이지 번호, 크기, 정렬)
+     * @return 게시글 요약 목록 (페이징 처리됨)
+     */
+    @Query(value = """
+            select new io.github.tato126.practice.post.dto.response.PostSummaryResponse(
+                p.id, p.title, p.excerpt, a.id, a.username, p.status, p.createdAt, p.updatedAt)
+            from Post p join p.author a
+            where p.status = :status
+            """,
+            countQuery = """
+                    select count(p) from Post p
+                    where p.status = :status
+                    """)
+    Page<PostSummaryResponse> findSummariesByStatus(@Param("status") Post.PostStatus postStatus, Pageable pageable);
+
+    /**
+     * 특정 상태의 게시글 첫 페이지를 (createdAt, id) 내림차순으로 조회합니다.
+     * <p>
+     * Slice를 반환하므로 COUNT 쿼리가 실행되지 않습니다.
+     * </p>
+     *
+     * @param postStatus 조회할 게시글 상태
+     * @param pageable   페이지 크기 (정렬 정보는 사용하지 않음)
+     * @return 게시글 요약 Slice
+     */
+    @Query("""
+            select new io.github.tato126.practice.post.dto.response.PostSummaryResponse(
+                p.id, p.title, p.excerpt, a.id, a.username, p.status, p.createdAt, p.updatedAt)
+            from Post p join p.author a
+            where p.status = :status
+            order by p.createdAt desc, p.id desc
+            """)
+    Slice<PostSummaryResponse> findFirstSliceByStatus(@Param("status") Post.PostStatus postStatus, Pageable pageable);
+
+    /**
+     * 커서보다 오래된(다음 페이지) 게시글을 (createdAt, id) 내림차순으로 조회합니다.
+     *
+     * @param postStatus 조회할 게시글 상태
+     * @param createdAt  커서의 생성일시
+     * @param id         커서의 게시글 ID
+     * @param pageable   페이지 크기 (정렬 정보는 사용하지 않음)
+     * @return 게시글 요약 Slice
+     */
+    @Query("""
+            select new io.github.tato126.practice.post.dto.response.PostSummaryResponse(
+                p.id, p.title, p.excerpt, a.id, a.username, p.status, p.createdAt, p.updatedAt)
+            from Post p join p.author a
+            where p.status = :status
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    Slice<PostSummaryResponse> findSliceBefore(@Param("status") Post.PostStatus postStatus,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /**
+     * 커서보다 최신인(이전 페이지) 게시글을 (createdAt, id) 오름차순으로 조회합니다.
+     * <p>
+     * 커서에 가까운 게시글부터 조회되므로, 호출 측에서 순서를 뒤집어 사용해야 합니다.
+     * </p>
+     *
+     * @param postStatus 조회할 게시글 상태
+     * @param createdAt  커서의 생성일시
+     * @param id         커서의 게시글 ID
+     * @param pageable   페이지 크기 (정렬 정보는 사용하지 않음)
+     * @return 게시글 요약 Slice (오름차순)
+     */
+    @Query("""
+            select new io.github.tato126.practice.post.dto.response.PostSummaryResponse(
+                p.id, p.title, p.excerpt, a.id, a.username, p.status, p.createdAt, p.updatedAt)
+            from Post p join p.author a
+            where p.status = :status
+              and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id))
+            order by p.createdAt asc, p.id asc
+            """)
+    Slice<PostSummaryResponse> findSliceAfter(@Param("status") Post.PostStatus postStatus,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    /**
+     * 특정 상태의 게시글을 ID 오름차순으로, 주어진 ID 이후부터 조회합니다.
+     * <p>
+     * 검색 색인 재구축처럼 전체 게시글을 일정한 크기로 나누어 읽을 때 키셋 방식으로 사용합니다.
+     * </p>
+     *
+     * @param postStatus 조회할 게시글 상태
+     * @param id         마지막으로 읽은 게시글 ID (처음이면 0)
+     * @param limit      최대 조회 수
+     * @return 게시글 목록
+     */
+    List<Post> findByStatusAndIdGreaterThanOrderByIdAsc(Post.PostStatus postStatus, Long id, Limit limit);
+
+    /**
+     * 주어진 ID의 게시글 중 특정 상태인 것만 작성자와 조인하여 요약 DTO로 조회합니다.
+     * <p>
+     * 결과 순서는 보장되지 않으므로 호출 측에서 정렬해야 합니다.
+     * </p>
+     *
+     * @param ids        조회할 게시글 ID 목록
+     * @param postStatus 조회할 게시글 상태
+     * @return 게시글 요약 목록
+     */
+    @Query("""
+            select new io.github.tato126.practice.post.dto.response.PostSummaryResponse(
+                p.id, p.title, p.excerpt, a.id, a.username, p.status, p.createdAt, p.updatedAt)
+            from Post p join p.author a
+            where p.id in :ids and p.status = :status
+            """)
+    List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids,
+                                                  @Param("status") Post.PostStatus postStatus);
+
+    /**
+     * 특정 상태의 게시글 전체를 작성자와 함께 ID 순서로 스트리밍 조회합니다.
+     * <p>
+     * 정방향 커서(ScrollableResults)로 fetch size만큼씩 읽으므로 결과 전체를 메모리에 올리지 않습니다.
+     * 읽기 전용 힌트로 변경 감지용 스냅샷을 만들지 않으며, 호출 측은 트랜잭션 안에서 스트림을 닫아야 하고
+     * 주기적으로 영속성 컨텍스트를 비워야 합니다.
+     * </p>
+     *
+     * @param postStatus 조회할 게시글 상태
+     * @return 게시글 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+            select p from Post p join fetch p.author
+            where p.status = :status
+            order by p.id
+            """)
+    Stream<Post> streamAllByStatus(@Param("status") Post.PostStatus postStatus);
+
 }
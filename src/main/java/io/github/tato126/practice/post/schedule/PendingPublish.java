@@ -0,0 +1,17 @@
+package io.github.tato126.practice.post.schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행을 기다리는 예약 한 건입니다.
+ *
+ * @param postId    게시글 ID
+ * @param publishAt 예약 발행 시각
+ * @author tato126
+ * @since 1.0
+ */
+public record PendingPublish(
+        Long postId,
+        LocalDateTime publishAt
+) {
+}
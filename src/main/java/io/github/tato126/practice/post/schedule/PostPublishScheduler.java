@@ -0,0 +1,255 @@
+package io.github.tato126.practice.post.schedule;
+
+import io.github.tato126.practice.post.event.PostScheduledEvent;
+import io.github.tato126.practice.post.event.PostsPublishedEvent;
+import io.github.tato126.practice.post.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약된 DRAFT 게시글을 발행 시각에 PUBLISHED로 전환하는 스케줄러입니다.
+ * <p>
+ * 예약을 메모리의 {@link DelayQueue}에 두고 전용 스레드가 가장 이른 예약의 시각까지 대기하므로,
+ * 발행할 게시글을 찾기 위해 테이블을 주기적으로 조회하지 않습니다.
+ * 같은 시각에 만료된 예약은 최대 {@code post.publish.batch-size}건씩 묶어
+ * ID 조건의 UPDATE 한 번으로 발행합니다.
+ * </p>
+ * <p>
+ * 대기열은 메모리에만 있으므로, 애플리케이션이 시작되면 (status, publish_at) 인덱스로
+ * 대기 중인 예약을 읽어 복구합니다. 내려가 있는 동안 지난 예약은 복구 직후 바로 발행됩니다.
+ * 예약 변경/취소는 게시글별 최신 항목만 기억하고, 대기열에 남은 이전 항목은 꺼낼 때 건너뜁니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class PostPublishScheduler {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final Counter publishedCounter;
+
+    private final DelayQueue<ScheduledPublish> queue = new DelayQueue<>();
+    // 게시글별 최신 예약 (대기열에서 꺼낸 항목이 이것과 다르면 변경/취소된 예약)
+    private final Map<Long, ScheduledPublish> pending = new ConcurrentHashMap<>();
+    private final Thread thread;
+
+    /**
+     * PostPublishScheduler를 초기화합니다.
+     *
+     * @param postRepository     게시글 리포지토리
+     * @param transactionManager 발행 트랜잭션에 사용할 트랜잭션 매니저
+     * @param eventPublisher     발행 이벤트 발행기
+     * @param batchSize          한 번의 UPDATE로 발행할 최대 게시글 수
+     * @param retryDelay         발행 실패 시 다시 시도하기까지의 대기 시간
+     * @param meterRegistry      지표를 등록할 레지스트리
+     */
+    public PostPublishScheduler(PostRepository postRepository,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${post.publish.batch-size:500}") int batchSize,
+                                @Value("${post.publish.retry-delay:5s}") Duration retryDelay,
+                                MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.thread = Thread.ofPlatform().name("post-publish-scheduler").daemon(true).unstarted(this::publishLoop);
+
+        this.publishedCounter = Counter.builder("post.publish.published")
+                .description("예약 발행으로 전환된 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("post.publish.pending", pending, Map::size)
+                .description("발행을 기다리는 예약 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 예약을 DB에서 복구하고 발행 스레드를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        // 1. 대기 중인 예약 복구 ((status, publish_at) 인덱스 범위 조회)
+        List<PendingPublish> recovered = transactionTemplate.execute(status -> postRepository.findPendingPublishes());
+        recovered.forEach(p -> schedule(p.postId(), p.publishAt()));
+
+        log.info("Recovered {} scheduled post(s)", recovered.size());
+
+        // 2. 발행 스레드 시작
+        thread.start();
+    }
+
+    /**
+     * 예약 설정/변경/취소가 커밋되면 대기열에 반영합니다.
+     *
+     * @param event 예약 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onPostScheduled(PostScheduledEvent event) {
+        if (event.publishAt() == null) {
+            pending.remove(event.postId());
+            return;
+        }
+        schedule(event.postId(), event.publishAt());
+    }
+
+    /**
+     * 발행 스레드를 중지합니다. 남은 예약은 다음 시작 시 DB에서 복구됩니다.
+     */
+    @PreDestroy
+    public void stop() {
+        thread.interrupt();
+    }
+
+    private void schedule(Long postId, LocalDateTime publishAt) {
+        ScheduledPublish entry = new ScheduledPublish(postId, dueAtMillis(publishAt));
+        pending.put(postId, entry);
+        queue.put(entry);
+    }
+
+    // 그사이 새로 예약/취소되지 않은 게시글만 다시 등록
+    private void requeue(Long postId, long dueAtMillis) {
+        ScheduledPublish entry = new ScheduledPublish(postId, dueAtMillis);
+        if (pending.putIfAbsent(postId, entry) == null) {
+            queue.put(entry);
+        }
+    }
+
+    // publish_at은 마이크로초 단위이므로 밀리초로 올림하여, 만료 시점에 항상 예약 시각이 지나 있도록 함
+    private static long dueAtMillis(LocalDateTime publishAt) {
+        Instant instant = publishAt.atZone(ZoneId.systemDefault()).toInstant();
+        long millis = instant.toEpochMilli();
+        return instant.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+
+    private void publishLoop() {
+        List<ScheduledPublish> expired = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                // 가장 이른 예약까지 대기한 뒤, 함께 만료된 예약을 한 묶음으로 꺼냄
+                expired.add(queue.take());
+                queue.drainTo(expired, batchSize - 1);
+                publish(expired);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Scheduled publishing failed", e);
+            } finally {
+                expired.clear();
+            }
+        }
+    }
+
+    private void publish(List<ScheduledPublish> expired) {
+
+        // 1. 변경/취소된 이전 항목은 건너뜀
+        List<ScheduledPublish> current = new ArrayList<>(expired.size());
+        for (ScheduledPublish entry : expired) {
+            if (pending.remove(entry.postId(), entry)) {
+                current.add(entry);
+            }
+        }
+        if (current.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = current.stream().map(ScheduledPublish::postId).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PendingPublish> candidates;
+        try {
+            // 2. 아직 DRAFT이고 시각이 지난 게시글만 한 번의 UPDATE로 발행
+            candidates = transactionTemplate.execute(status -> {
+                List<PendingPublish> rows = postRepository.findPendingPublishesByIdIn(ids);
+                List<Long> due = rows.stream()
+                        .filter(p -> !p.publishAt().isAfter(now))
+                        .map(PendingPublish::postId)
+                        .toList();
+                if (!due.isEmpty()) {
+                    postRepository.publishDue(due, now);
+                    // 3. 커밋 후 검색 색인/목록 버전 반영
+                    eventPublisher.publishEvent(new PostsPublishedEvent(due));
+                }
+                return rows;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} scheduled post(s), retrying in {}", ids.size(), retryDelay, e);
+
+            // 4. 실패하면 재시도 대기 후 다시 등록
+            long retryAt = System.currentTimeMillis() + retryDelay.toMillis();
+            ids.forEach(id -> requeue(id, retryAt));
+            return;
+        }
+
+        // 5. 예약 시각이 아직 지나지 않은 게시글은 DB의 예약 시각으로 다시 등록 (버리지 않음)
+        int published = 0;
+        for (PendingPublish candidate : candidates) {
+            if (candidate.publishAt().isAfter(now)) {
+                requeue(candidate.postId(), dueAtMillis(candidate.publishAt()));
+            } else {
+                published++;
+            }
+        }
+
+        publishedCounter.increment(published);
+        log.debug("Published {} scheduled post(s)", published);
+    }
+
+    /**
+     * 대기열의 예약 한 건입니다. 같은 게시글의 예약도 설정할 때마다 별도 항목으로 구분합니다.
+     */
+    private static final class ScheduledPublish implements Delayed {
+
+        private final Long postId;
+        private final long dueAtMillis;
+
+        private ScheduledPublish(Long postId, long dueAtMillis) {
+            this.postId = postId;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        private Long postId() {
+            return postId;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((ScheduledPublish) other).dueAtMillis);
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package io.github.tato126.practice.post.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 발행된 게시글의 제목/본문에 대한 메모리 역색인입니다.
+ * <p>
+ * 용어마다 문서 번호와 출현 빈도를 int 배열로 보관(posting list)하고, BM25로 관련도를 계산합니다.
+ * 게시글은 색인될 때마다 새 문서 번호를 받으며, 수정/삭제된 이전 문서는 제거 표시만 한 뒤
+ * 제거된 문서가 살아 있는 문서보다 많아지면 압축합니다. 압축은 살아 있는 문서의 번호를 순서대로 다시 매기고
+ * 더 이상 쓰이지 않는 용어를 제거하므로, 메모리와 조회 비용은 수정 이력이 아니라 게시글 수에 비례합니다.
+ * </p>
+ * <p>
+ * 조회는 읽기 잠금, 색인 변경은 쓰기 잠금으로 보호됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int INITIAL_DOCS = 1024;
+    private static final int MIN_DEAD_DOCS_TO_COMPACT = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<Postings> postings = new ArrayList<>();
+    private final Map<Long, Integer> docsByPostId = new HashMap<>();
+
+    // 문서 번호 → 게시글 ID (0이면 제거된 문서), 문서 길이, 문서의 고유 용어 ID
+    private long[] postIds = new long[INITIAL_DOCS];
+    private int[] docLengths = new int[INITIAL_DOCS];
+    private int[][] docTerms = new int[INITIAL_DOCS][];
+
+    private int docCount;
+    private int liveDocs;
+    private int deadDocs;
+    private long liveLength;
+
+    /**
+     * 게시글을 색인합니다. 이미 색인된 게시글이면 교체합니다.
+     *
+     * @param postId  게시글 ID
+     * @param title   제목
+     * @param content 본문
+     */
+    public void index(long postId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docsByPostId.remove(postId);
+            if (existing != null) {
+                removeDoc(existing);
+            }
+            addDoc(postId, title, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 색인되지 않은 게시글만 색인합니다.
+     * <p>
+     * 시작 시 재구축 중에 변경 이벤트로 먼저 색인된 최신 내용을 덮어쓰지 않기 위해 사용합니다.
+     * </p>
+     *
+     * @param postId  게시글 ID
+     * @param title   제목
+     * @param content 본문
+     */
+    public void indexIfAbsent(long postId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            if (!docsByPostId.containsKey(postId)) {
+                addDoc(postId, title, content);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거합니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByPostId.remove(postId);
+            if (doc != null) {
+                removeDoc(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의와 일치하는 게시글을 BM25 점수 내림차순으로 조회합니다.
+     * <p>
+     * 질의 용어 중 하나라도 포함한 게시글이 일치하며(OR), 점수가 같으면 나중에 색인된 게시글이 먼저 옵니다.
+     * </p>
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     * @return 전체 일치 수와 요청 범위의 게시글 ID
+     */
+    public SearchHits search(String query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return SearchHits.empty();
+            }
+
+            // 1. 질의 토큰 → 색인에 있는 용어
+            List<Postings> terms = new ArrayList<>();
+            for (String token : new LinkedHashSet<>(PostTokenizer.tokenize(query))) {
+                Integer termId = termIds.get(token);
+                if (termId != null && postings.get(termId).live > 0) {
+                    terms.add(postings.get(termId));
+                }
+            }
+            if (terms.isEmpty()) {
+                return SearchHits.empty();
+            }
+
+            // 2. 문서 번호 순으로 정렬된 posting list들을 함께 순회하며 문서별 BM25 점수 계산
+            //    (결과 배열은 일치 가능한 최대 수 크기로, 전체 문서 수와 무관)
+            float averageLength = (float) liveLength / liveDocs;
+            float[] idfs = new float[terms.size()];
+            int[] cursors = new int[terms.size()];
+            int candidates = 0;
+            for (int t = 0; t < terms.size(); t++) {
+                Postings term = terms.get(t);
+                idfs[t] = (float) Math.log(1 + (liveDocs - term.live + 0.5) / (term.live + 0.5));
+                candidates += term.size;
+            }
+
+            // (점수, 문서 번호)를 long 하나로 묶어 기본형 배열로 정렬 (양수 float의 비트 순서 = 값 순서)
+            long[] ranked = new long[candidates];
+            int matchedCount = 0;
+            while (true) {
+                int doc = Integer.MAX_VALUE;
+                for (int t = 0; t < terms.size(); t++) {
+                    Postings term = terms.get(t);
+                    if (cursors[t] < term.size && term.docs[cursors[t]] < doc) {
+                        doc = term.docs[cursors[t]];
+                    }
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                float score = 0;
+                for (int t = 0; t < terms.size(); t++) {
+                    Postings term = terms.get(t);
+                    if (cursors[t] < term.size && term.docs[cursors[t]] == doc) {
+                        int tf = term.freqs[cursors[t]++];
+                        float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                        score += idfs[t] * tf * (K1 + 1) / (tf + norm);
+                    }
+                }
+                if (postIds[doc] != 0) {
+                    ranked[matchedCount++] = ((long) Float.floatToIntBits(score) << 32) | doc;
+                }
+            }
+            if (offset >= matchedCount) {
+                return new SearchHits(matchedCount, new long[0]);
+            }
+
+            // 3. 관련도 순 정렬
+            Arrays.sort(ranked, 0, matchedCount);
+
+            int end = (int) Math.min(matchedCount, (long) offset + limit);
+            long[] result = new long[end - offset];
+            for (int i = offset; i < end; i++) {
+                int doc = (int) ranked[matchedCount - 1 - i];
+                result[i - offset] = postIds[doc];
+            }
+            return new SearchHits(matchedCount, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 게시글 수를 반환합니다.
+     *
+     * @return 색인된 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDoc(long postId, String title, String content) {
+        // 1. 토큰 → 용어 ID (제목은 가중치만큼 반복)
+        List<String> titleTokens = PostTokenizer.tokenize(title);
+        List<String> contentTokens = PostTokenizer.tokenize(content);
+        int[] ids = new int[titleTokens.size() * TITLE_WEIGHT + contentTokens.size()];
+        int n = 0;
+        for (String token : titleTokens) {
+            int termId = termId(token);
+            for (int w = 0; w < TITLE_WEIGHT; w++) {
+                ids[n++] = termId;
+            }
+        }
+        for (String token : contentTokens) {
+            ids[n++] = termId(token);
+        }
+
+        // 2. 정렬 후 연속 구간 길이로 용어 빈도 계산
+        Arrays.sort(ids);
+        ensureDocCapacity();
+        int doc = docCount++;
+        int[] distinct = new int[ids.length];
+        int distinctCount = 0;
+        for (int i = 0; i < ids.length; ) {
+            int j = i;
+            while (j < ids.length && ids[j] == ids[i]) {
+                j++;
+            }
+            postings.get(ids[i]).add(doc, j - i);
+            distinct[distinctCount++] = ids[i];
+            i = j;
+        }
+
+        postIds[doc] = postId;
+        docLengths[doc] = ids.length;
+        docTerms[doc] = Arrays.copyOf(distinct, distinctCount);
+        docsByPostId.put(postId, doc);
+        liveDocs++;
+        liveLength += ids.length;
+    }
+
+    private void removeDoc(int doc) {
+        for (int termId : docTerms[doc]) {
+            postings.get(termId).live--;
+        }
+        postIds[doc] = 0;
+        docTerms[doc] = null;
+        liveDocs--;
+        liveLength -= docLengths[doc];
+        deadDocs++;
+
+        if (deadDocs >= MIN_DEAD_DOCS_TO_COMPACT && deadDocs > liveDocs) {
+            compact();
+        }
+    }
+
+    /**
+     * 제거된 문서와 더 이상 쓰이지 않는 용어를 정리합니다.
+     * <p>
+     * 살아 있는 문서에 색인 순서대로 새 번호를 매기므로, 점수가 같을 때의 순서(나중에 색인된 게시글 우선)는 유지됩니다.
+     * </p>
+     */
+    private void compact() {
+
+        // 1. 살아 있는 문서를 앞으로 모아 번호를 다시 매김
+        int[] docRemap = new int[docCount];
+        int capacity = Math.max(INITIAL_DOCS, liveDocs + (liveDocs >> 1));
+        long[] newPostIds = new long[capacity];
+        int[] newDocLengths = new int[capacity];
+        int[][] newDocTerms = new int[capacity][];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (postIds[doc] == 0) {
+                docRemap[doc] = -1;
+                continue;
+            }
+            docRemap[doc] = next;
+            newPostIds[next] = postIds[doc];
+            newDocLengths[next] = docLengths[doc];
+            newDocTerms[next] = docTerms[doc];
+            docsByPostId.put(postIds[doc], next);
+            next++;
+        }
+
+        // 2. 살아 있는 문서가 없는 용어를 제거하고 용어 번호를 다시 매김
+        int[] termRemap = new int[postings.size()];
+        List<Postings> kept = new ArrayList<>();
+        for (int termId = 0; termId < postings.size(); termId++) {
+            Postings term = postings.get(termId);
+            if (term.live == 0) {
+                termRemap[termId] = -1;
+                continue;
+            }
+            term.retainLive(docRemap);
+            termRemap[termId] = kept.size();
+            kept.add(term);
+        }
+        termIds.entrySet().removeIf(entry -> termRemap[entry.getValue()] < 0);
+        termIds.replaceAll((token, termId) -> termRemap[termId]);
+        postings.clear();
+        postings.addAll(kept);
+
+        // 3. 문서의 용어 번호 갱신
+        for (int doc = 0; doc < next; doc++) {
+            int[] distinct = newDocTerms[doc];
+            for (int i = 0; i < distinct.length; i++) {
+                distinct[i] = termRemap[distinct[i]];
+            }
+        }
+
+        postIds = newPostIds;
+        docLengths = newDocLengths;
+        docTerms = newDocTerms;
+        docCount = next;
+        deadDocs = 0;
+    }
+
+    private int termId(String token) {
+        Integer termId = termIds.get(token);
+        if (termId != null) {
+            return termId;
+        }
+        int newId = postings.size();
+        termIds.put(token, newId);
+        postings.add(new Postings());
+        return newId;
+    }
+
+    private void ensureDocCapacity() {
+        if (docCount < postIds.length) {
+            return;
+        }
+        int capacity = postIds.length + (postIds.length >> 1);
+        postIds = Arrays.copyOf(postIds, capacity);
+        docLengths = Arrays.copyOf(docLengths, capacity);
+        docTerms = Arrays.copyOf(docTerms, capacity);
+    }
+
+    /**
+     * 한 용어의 posting list (문서 번호 오름차순)
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private int live;
+
+        private void add(int doc, int freq) {
+            if (size == docs.length) {
+                int capacity = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, capacity);
+                freqs = Arrays.copyOf(freqs, capacity);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+
+        // 제거된 문서를 걸러내고 남은 문서를 새 번호로 바꿈 (번호 순서는 유지됨)
+        private void retainLive(int[] docRemap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = docRemap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (docs.length > kept * 2 + 4) {
+                docs = Arrays.copyOf(docs, kept);
+                freqs = Arrays.copyOf(freqs, kept);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.tato126.practice.post.search;
+
+import io.github.tato126.practice.config.datasource.ReadWriteRoutingDataSource;
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.post.event.PostChangedEvent;
+import io.github.tato126.practice.post.event.PostsImportedEvent;
+import io.github.tato126.practice.post.event.PostsPublishedEvent;
+import io.github.tato126.practice.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 검색 색인을 DB와 동기화하는 컴포넌트입니다.
+ * <p>
+ * 애플리케이션 시작 시 발행된 게시글 전체로 색인을 구축하고,
+ * 이후에는 게시글 변경 이벤트를 커밋 후에 받아 해당 게시글만 다시 색인합니다.
+ * </p>
+ * <p>
+ * 이벤트 리스너는 방금 커밋된 행을 읽으므로 {@link ReadWriteRoutingDataSource#readFromPrimary}로 주 DB에서 읽습니다.
+ * 예약 발행처럼 인증 사용자가 없는 쓰기는 쓰기 후 읽기 보장을 받지 못해,
+ * 복제본에서 읽으면 복제 지연 동안 이전 상태(DRAFT)를 읽게 됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostSearchIndexer {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+
+    /**
+     * 발행된 게시글 전체를 ID 순서로 나누어 읽어 색인합니다.
+     * <p>
+     * 재구축 중 변경 이벤트로 먼저 색인된 게시글은 덮어쓰지 않습니다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        long lastId = 0L;
+
+        List<Post> posts;
+        do {
+            posts = postRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                    Post.PostStatus.PUBLISHED, lastId, Limit.of(REBUILD_BATCH_SIZE));
+            for (Post post : posts) {
+                postSearchIndex.indexIfAbsent(post.getId(), post.getTitle(), post.getContent());
+                lastId = post.getId();
+            }
+        } while (posts.size() == REBUILD_BATCH_SIZE);
+
+        log.info("Search index rebuilt: {} posts in {} ms",
+                postSearchIndex.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 게시글 변경이 커밋되면 색인에 반영합니다.
+     * <p>
+     * 발행 상태가 아닌 게시글(DRAFT)은 색인에서 제거합니다.
+     * </p>
+     *
+     * @param event 게시글 변경 이벤트
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            postSearchIndex.remove(event.postId());
+            return;
+        }
+
+        ReadWriteRoutingDataSource.readFromPrimary(() -> postRepository.findResponseById(event.postId()))
+                .filter(post -> post.status() == Post.PostStatus.PUBLISHED)
+                .ifPresentOrElse(
+                        post -> postSearchIndex.index(post.id(), post.title(), post.content()),
+                        () -> postSearchIndex.remove(event.postId()));
+    }
+
+    /**
+     * 일괄 가져오기의 청크가 커밋되면 발행 상태인 게시글을 색인합니다.
+     *
+     * @param event 청크 저장 이벤트
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener
+    public void onPostsImported(PostsImportedEvent event) {
+        indexPublished(event.postIds());
+    }
+
+    /**
+     * 예약 발행이 커밋되면 새로 발행된 게시글을 한 번의 조회로 색인합니다.
+     *
+     * @param event 예약 발행 이벤트
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener
+    public void onPostsPublished(PostsPublishedEvent event) {
+        indexPublished(event.postIds());
+    }
+
+    private void indexPublished(List<Long> postIds) {
+        for (Post post : ReadWriteRoutingDataSource.readFromPrimary(() -> postRepository.findAllById(postIds))) {
+            if (post.getStatus() == Post.PostStatus.PUBLISHED) {
+                postSearchIndex.index(post.getId(), post.getTitle(), post.getContent());
+            }
+        }
+    }
+}
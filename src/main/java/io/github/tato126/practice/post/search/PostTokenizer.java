@@ -0,0 +1,83 @@
+package io.github.tato126.practice.post.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인과 질의에 공통으로 사용하는 토크나이저입니다.
+ * <p>
+ * 한글은 형태소 분석 없이도 부분 일치가 가능하도록 연속된 음절을 2-gram으로 나누고
+ * (한 글자 단어는 그대로), 영문/숫자는 연속된 문자열을 소문자 단어 하나로 취급합니다.
+ * 그 외 문자(공백, 문장 부호 등)는 구분자로 사용됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public final class PostTokenizer {
+
+    private PostTokenizer() {
+    }
+
+    /**
+     * 텍스트를 토큰 목록으로 분리합니다.
+     *
+     * @param text 분리할 텍스트 (null이면 빈 목록)
+     * @return 등장 순서대로의 토큰 목록 (중복 포함)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = text.codePointAt(i);
+
+            // 1. 한글 음절 구간 → 2-gram
+            if (isHangul(codePoint)) {
+                int start = i;
+                while (i < length && isHangul(text.codePointAt(i))) {
+                    i += Character.charCount(text.codePointAt(i));
+                }
+                addBigrams(text.substring(start, i), tokens);
+                continue;
+            }
+
+            // 2. 영문/숫자 구간 → 소문자 단어
+            if (Character.isLetterOrDigit(codePoint)) {
+                int start = i;
+                while (i < length) {
+                    int next = text.codePointAt(i);
+                    if (!Character.isLetterOrDigit(next) || isHangul(next)) {
+                        break;
+                    }
+                    i += Character.charCount(next);
+                }
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                continue;
+            }
+
+            // 3. 구분자
+            i += Character.charCount(codePoint);
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String run, List<String> tokens) {
+        if (run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.tato126.practice.post.search;
+
+/**
+ * 검색 색인 조회 결과입니다.
+ *
+ * @param total   질의와 일치한 전체 게시글 수
+ * @param postIds 요청한 범위의 게시글 ID (관련도 내림차순)
+ * @author tato126
+ * @since 1.0
+ */
+public record SearchHits(
+        int total,
+        long[] postIds
+) {
+
+    private static final SearchHits EMPTY = new SearchHits(0, new long[0]);
+
+    public static SearchHits empty() {
+        return EMPTY;
+    }
+}
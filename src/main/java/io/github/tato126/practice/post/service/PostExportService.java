@@ -0,0 +1,95 @@
+package io.github.tato126.practice.post.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.tato126.practice.post.dto.response.PostResponse;
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.post.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 발행된 게시글 전체를 NDJSON으로 내보내는 서비스 클래스입니다.
+ * <p>
+ * 정방향 커서로 한 건씩 읽어 바로 출력 스트림에 쓰고, 일정 건수마다 영속성 컨텍스트를 비우고
+ * 출력 버퍼를 내보냅니다. OFFSET 페이징 없이 한 번의 쿼리로 읽으므로 비용은 게시글 수에 비례하며,
+ * 메모리 사용량은 게시글 수와 관계없이 일정합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class PostExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    /**
+     * PostExportService를 초기화합니다.
+     *
+     * @param postRepository 게시글 저장소
+     * @param entityManager  주기적으로 영속성 컨텍스트를 비우기 위한 EntityManager
+     * @param objectMapper   행 직렬화에 사용할 ObjectMapper (MVC와 동일한 설정)
+     */
+    public PostExportService(PostRepository postRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.postRepository = postRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // 행마다 flush하지 않고 FLUSH_INTERVAL 단위로만 내보낸다
+        this.rowWriter = objectMapper.writerFor(PostResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 발행된 게시글 전체를 ID 순서로 한 줄에 하나씩 JSON으로 씁니다.
+     *
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 내보낸 게시글 수
+     * @throws IOException 출력에 실패한 경우 (클라이언트 연결 종료 등)
+     */
+    @Transactional(readOnly = true)
+    public long exportPublished(OutputStream out) throws IOException {
+
+        long started = System.nanoTime();
+        long count = 0;
+
+        try (Stream<Post> posts = postRepository.streamAllByStatus(Post.PostStatus.PUBLISHED);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<Post> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+
+                // 1. 한 줄 쓰기
+                rowWriter.writeValue(generator, PostResponse.form(iterator.next()));
+                generator.writeRaw('\n');
+                count++;
+
+                // 2. 주기적으로 엔티티 분리 및 출력 버퍼 전송
+                if (count % FLUSH_INTERVAL == 0) {
+                    entityManager.clear();
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+
+        log.info("Exported {} posts in {} ms", count, (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+}
@@ -0,0 +1,192 @@
+package io.github.tato126.practice.post.service;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import io.github.tato126.practice.common.excetion.login.UserNotFoundException;
+import io.github.tato126.practice.common.excetion.post.InvalidImportPayloadException;
+import io.github.tato126.practice.config.datasource.ReadWriteRoutingDataSource;
+import io.github.tato126.practice.post.dto.request.PostImportRequest;
+import io.github.tato126.practice.post.dto.response.PostImportResponse;
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.post.event.PostsImportedEvent;
+import io.github.tato126.practice.post.repository.PostRepository;
+import io.github.tato126.practice.user.entity.User;
+import io.github.tato126.practice.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 일괄 가져오기를 처리하는 서비스 클래스입니다.
+ * <p>
+ * 요청 본문(JSON 배열 또는 NDJSON)을 한 행씩 스트리밍으로 읽어 청크 단위로 저장하므로,
+ * 본문 전체를 메모리에 올리지 않습니다. 청크마다 별도 트랜잭션으로 커밋하며,
+ * 시퀀스(pooled) ID와 {@code hibernate.jdbc.batch_size} 설정으로 INSERT가 JDBC 배치로 실행됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class PostImportService {
+
+    private final ObjectReader rowReader;
+    private final Validator validator;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    /**
+     * PostImportService를 초기화합니다.
+     *
+     * @param objectMapper       요청 본문을 읽을 ObjectMapper
+     * @param validator          행 검증기
+     * @param postRepository     게시글 저장소
+     * @param userRepository     작성자 조회용 사용자 저장소
+     * @param entityManager      청크마다 영속성 컨텍스트를 비우기 위한 EntityManager
+     * @param transactionManager 청크 트랜잭션 관리자
+     * @param eventPublisher     청크 저장 이벤트 발행기
+     * @param chunkSize          한 트랜잭션에서 저장할 행 수
+     * @throws IllegalArgumentException 청크 크기가 0 이하인 경우
+     */
+    public PostImportService(ObjectMapper objectMapper,
+                             Validator validator,
+                             PostRepository postRepository,
+                             UserRepository userRepository,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${post.import.chunk-size:500}") int chunkSize) {
+        // 0이면 청크가 차지 않아 본문 전체를 메모리에 모으게 된다
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("post.import.chunk-size는 0보다 커야 합니다: " + chunkSize);
+        }
+
+        this.rowReader = objectMapper.readerFor(PostImportRequest.class);
+        this.validator = validator;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 요청 본문의 게시글을 모두 저장합니다.
+     * <p>
+     * 가져온 게시글의 작성자는 요청한 사용자이며, 첫 청크 전에 한 번만 조회합니다.
+     * 검증에 실패한 행과 필드 값을 읽을 수 없는 행(알 수 없는 상태 값, 잘못된 타입 등)은 건너뛰어 거부 건수에 포함하며,
+     * JSON 문법 오류가 발생하면 이미 커밋된 청크는 유지한 채 중단합니다.
+     * </p>
+     *
+     * @param body   요청 본문 (JSON 배열 또는 줄 단위 JSON)
+     * @param userId 인증된 사용자 ID
+     * @return 저장/거부 건수와 처리 속도
+     * @throws UserNotFoundException        작성자가 존재하지 않는 경우 (탈퇴한 사용자의 토큰)
+     * @throws InvalidImportPayloadException 본문을 JSON으로 읽을 수 없는 경우
+     */
+    public PostImportResponse importPosts(InputStream body, Long userId) {
+
+        long started = System.nanoTime();
+
+        // 작성자 조회 (2차 캐시, 복제 지연으로 방금 가입한 사용자를 놓치지 않도록 주 DB)
+        User author = ReadWriteRoutingDataSource.readFromPrimary(() -> userRepository.findById(userId))
+                .orElseThrow(() -> new UserNotFoundException("id=" + userId));
+
+        int imported = 0;
+        int rejected = 0;
+        List<PostImportRequest> chunk = new ArrayList<>(chunkSize);
+
+        // 최상위 배열이면 원소 단위로, 아니면 공백/개행으로 구분된 값 단위로 읽는다
+        try (MappingIterator<PostImportRequest> rows = rowReader.readValues(body)) {
+            while (rows.hasNextValue()) {
+                PostImportRequest row;
+                try {
+                    row = rows.nextValue();
+                } catch (MismatchedInputException e) {
+                    // 값의 형식 오류는 그 행만 건너뜀 (다음 hasNextValue에서 행 끝까지 건너뛰고 이어서 읽음)
+                    rejected++;
+                    continue;
+                }
+
+                // 1. 행 검증 (실패 시 건너뜀)
+                if (!validator.validate(row).isEmpty()) {
+                    rejected++;
+                    continue;
+                }
+
+                // 2. 청크가 차면 저장
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    imported += saveChunk(chunk, author);
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            String position = location != null
+                    ? "line " + location.getLineNr() + ", column " + location.getColumnNr()
+                    : "unknown position";
+            throw new InvalidImportPayloadException(imported, position, e);
+        } catch (IOException e) {
+            throw new InvalidImportPayloadException(imported, "I/O error", e);
+        }
+
+        // 3. 남은 행 저장
+        if (!chunk.isEmpty()) {
+            imported += saveChunk(chunk, author);
+        }
+
+        PostImportResponse response = PostImportResponse.of(imported, rejected, System.nanoTime() - started);
+        log.info("Imported {} posts ({} rejected) for user {} in {} ms ({} rows/s)",
+                response.imported(), response.rejected(), userId, response.elapsedMillis(), response.rowsPerSecond());
+        return response;
+    }
+
+    /**
+     * 한 청크를 하나의 트랜잭션으로 저장합니다.
+     * <p>
+     * 저장 후 flush/clear로 영속성 컨텍스트를 비워, 가져오는 행 수와 관계없이 메모리 사용량을 일정하게 유지합니다.
+     * </p>
+     */
+    private int saveChunk(List<PostImportRequest> rows, User author) {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Post> posts = new ArrayList<>(rows.size());
+            for (PostImportRequest row : rows) {
+                posts.add(Post.builder()
+                        .title(row.title())
+                        .content(row.content())
+                        .author(author)
+                        .status(row.status())
+                        .build());
+            }
+            postRepository.saveAll(posts);
+            entityManager.flush();
+            entityManager.clear();
+
+            List<Long> savedIds = posts.stream().map(Post::getId).toList();
+            eventPublisher.publishEvent(new PostsImportedEvent(savedIds));
+            return savedIds;
+        });
+        return ids == null ? 0 : ids.size();
+    }
+}
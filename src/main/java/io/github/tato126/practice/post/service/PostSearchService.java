@@ -0,0 +1,80 @@
+package io.github.tato126.practice.post.service;
+
+import io.github.tato126.practice.post.dto.response.PostSummaryResponse;
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.post.repository.PostRepository;
+import io.github.tato126.practice.post.search.PostSearchIndex;
+import io.github.tato126.practice.post.search.SearchHits;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ * <p>
+ * 메모리 역색인({@link PostSearchIndex})에서 관련도 순으로 게시글 ID를 구한 뒤,
+ * 해당 페이지의 게시글만 요약 프로젝션으로 조회합니다. LIKE 검색처럼 테이블 전체를 읽지 않습니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class PostSearchService {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    /**
+     * 발행된 게시글을 제목/본문으로 검색합니다.
+     * <p>
+     * 결과는 관련도(BM25) 내림차순이며, 페이지 정보의 정렬 조건은 사용하지 않습니다.
+     * </p>
+     *
+     * @param query    검색어 (한글/영문)
+     * @param pageable 페이지 정보 (페이지 번호, 크기)
+     * @return 게시글 요약 목록 (페이징 처리됨)
+     */
+    public Page<PostSummaryResponse> search(String query, Pageable pageable) {
+
+        // 1. 색인에서 관련도 순 게시글 ID 조회 (int 범위를 넘는 오프셋은 결과가 없는 페이지)
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+        SearchHits hits = postSearchIndex.search(query, offset, pageable.getPageSize());
+        if (hits.postIds().length == 0) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+
+        // 2. 해당 페이지의 게시글만 조회 (발행 상태가 아니게 된 게시글은 제외)
+        List<Long> ids = Arrays.stream(hits.postIds()).boxed().toList();
+        Map<Long, PostSummaryResponse> postsById = postRepository.findSummariesByIdIn(ids, Post.PostStatus.PUBLISHED)
+                .stream()
+                .collect(Collectors.toMap(PostSummaryResponse::id, Function.identity()));
+
+        // 3. 관련도 순서로 정렬
+        List<PostSummaryResponse> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostSummaryResponse post = postsById.get(id);
+            if (post != null) {
+                content.add(post);
+            }
+        }
+
+        log.debug("Search '{}': {} hits", query, hits.total());
+
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+}
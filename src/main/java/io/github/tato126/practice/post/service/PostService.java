@@ -1,22 +1,40 @@
 package io.github.tato126.practice.post.service;
 
+import io.github.tato126.practice.common.excetion.login.UserNotFoundException;
 import io.github.tato126.practice.common.excetion.post.PostAccessDeniedException;
 import io.github.tato126.practice.common.excetion.post.PostNotFoundException;
-import io.github.tato126.practice.common.excetion.login.UserNotFoundException;
+import io.github.tato126.practice.common.excetion.post.PostNotSchedulableException;
+import io.github.tato126.practice.config.CacheConfig;
+import io.github.tato126.practice.config.datasource.ReadWriteRoutingDataSource;
+import io.github.tato126.practice.post.dto.request.PostCursor;
 import io.github.tato126.practice.post.dto.request.PostRequest;
 import io.github.tato126.practice.post.dto.request.PostUpdateRequest;
 import io.github.tato126.practice.post.dto.response.PostResponse;
+import io.github.tato126.practice.post.dto.response.PostScheduleResponse;
+import io.github.tato126.practice.post.dto.response.PostSliceResponse;
+import io.github.tato126.practice.post.dto.response.PostSummaryResponse;
 import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.post.event.PostChangedEvent;
+import io.github.tato126.practice.post.event.PostScheduledEvent;
 import io.github.tato126.practice.post.repository.PostRepository;
 import io.github.tato126.practice.user.entity.User;
 import io.github.tato126.practice.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 /**
  * 게시글 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  * <p>
@@ -30,31 +48,37 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "app.service", histogram = true)
 @Service
 public class PostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 게시글을 생성합니다.
      * <p>
      * 인증된 사용자만 게시글을 작성할 수 있으며, 작성자 정보가 자동으로 설정됩니다.
+     * 작성자는 토큰의 사용자 ID로 기본 키 조회하며, 2차 캐시에 있으면 SQL을 실행하지 않습니다.
+     * 토큰이 유효해도 탈퇴한 사용자는 외래 키 위반 대신 사용자 없음으로 처리됩니다.
      * </p>
      *
-     * @param request   게시글 생성 요청 정보 (제목, 내용)
-     * @param userEmail 인증된 사용자 이메일
+     * @param request 게시글 생성 요청 정보 (제목, 내용)
+     * @param userId  인증된 사용자 ID
      * @return 생성된 게시글 정보
-     * @throws UserNotFoundException 사용자가 존재하지 않는 경우
+     * @throws UserNotFoundException 작성자가 존재하지 않는 경우
      */
     @Transactional
-    public PostResponse register(PostRequest request, String userEmail) {
+    public PostResponse register(PostRequest request, Long userId) {
 
-        log.debug("Creating post by user: {}", userEmail);
+        log.debug("Creating post by user: {}", userId);
 
-        // 1. 사용자 조회 (SecurityConfig에서 이미 인증 확인됨)
-        User author = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException(userEmail));
+        // 1. 작성자 조회 (응답에 닉네임이 필요하므로 어차피 로드됨, 탈퇴한 사용자는 404)
+        User author = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("id=" + userId));
 
         // 2. 게시글 생성 (작성자 설정)
         Post newPost = Post.form(request, author);
@@ -64,79 +88,145 @@ public class PostService {
 
         log.debug("Post created: {}", newPost.getId());
 
+        // 4. 변경 이벤트 발행 (커밋 후 반영)
+        eventPublisher.publishEvent(PostChangedEvent.of(newPost.getId(), PostChangedEvent.Type.CREATED));
+
         return PostResponse.form(newPost);
     }
 
     /**
      * 게시글을 수정합니다.
      * <p>
-     * 작성자 본인만 수정할 수 있습니다.
+     * 작성자 본인만 수정할 수 있으며, 커밋 후 상세 조회 캐시와 응답 캐시에서 제거됩니다.
+     * 게시글 ID와 작성자 ID를 조건으로 한 단일 UPDATE 문으로 수정하며,
+     * 수정된 행이 없을 때만 존재 여부를 확인하여 예외를 구분합니다.
      * </p>
      *
      * @param id                수정할 게시글 ID
      * @param postUpdateRequest 수정 요청 정보
-     * @param userEmail         인증된 사용자 이메일
+     * @param userId            인증된 사용자 ID
      * @return 수정된 게시글 정보
      * @throws PostNotFoundException     게시글이 존재하지 않는 경우
      * @throws PostAccessDeniedException 작성자가 아닌 경우
-     * @throws UserNotFoundException     사용자가 존재하지 않는 경우
      */
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#id")
     @Transactional
-    public PostResponse update(Long id, PostUpdateRequest postUpdateRequest, String userEmail) {
+    public PostResponse update(Long id, PostUpdateRequest postUpdateRequest, Long userId) {
 
-        // 1. 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException(userEmail));
+        // 1. 작성자 조건으로 수정 (단일 UPDATE)
+        int updated = postRepository.updateByIdAndAuthorId(
+                id, userId, postUpdateRequest.title(), postUpdateRequest.content(),
+                Post.excerptOf(postUpdateRequest.content()), LocalDateTime.now());
 
-        // 2. 게시글 조회
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new PostNotFoundException("해당 포스트를 찾을 수 없습니다. ID: " + id));
-
-        // 3. 권한 체크 (작성자 본인인지 확인)
-        if (!post.getAuthor().getId().equals(user.getId())) {
-            throw new PostAccessDeniedException("본인이 작성한 포스트만 수정할 수 있습니다.");
+        // 2. 수정된 행이 없으면 존재하지 않거나 작성자가 아님
+        if (updated == 0) {
+            throw notFoundOrAccessDenied(id, "본인이 작성한 포스트만 수정할 수 있습니다.");
         }
 
-        // 4. 게시글 수정 (더티 체킹)
-        post.update(postUpdateRequest.title(), postUpdateRequest.content());
+        log.debug("Post updated: {}", id);
 
-        log.debug("Post updated: {}", post.getId());
+        // 3. 변경 이벤트 발행 (커밋 후 응답 캐시 무효화)
+        eventPublisher.publishEvent(PostChangedEvent.of(id, PostChangedEvent.Type.UPDATED));
 
-        return PostResponse.form(post);
+        // 4. 수정 결과 조회 (작성자 조인 프로젝션)
+        return postRepository.findResponseById(id)
+                .orElseThrow(() -> new PostNotFoundException("해당 포스트를 찾을 수 없습니다. ID: " + id));
     }
 
     /**
      * 게시글을 삭제합니다.
      * <p>
-     * 작성자 본인만 삭제할 수 있습니다.
+     * 작성자 본인만 삭제할 수 있으며, 커밋 후 상세 조회 캐시와 응답 캐시에서 제거됩니다.
+     * 게시글 ID와 작성자 ID를 조건으로 한 단일 DELETE 문으로 삭제하며,
+     * 삭제된 행이 없을 때만 존재 여부를 확인하여 예외를 구분합니다.
      * </p>
      *
-     * @param id        삭제할 게시글 ID
-     * @param userEmail 인증된 사용자 이메일
+     * @param id     삭제할 게시글 ID
+     * @param userId 인증된 사용자 ID
      * @throws PostNotFoundException     게시글이 존재하지 않는 경우
      * @throws PostAccessDeniedException 작성자가 아닌 경우
-     * @throws UserNotFoundException     사용자가 존재하지 않는 경우
      */
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#id")
     @Transactional
-    public void delete(Long id, String userEmail) {
+    public void delete(Long id, Long userId) {
 
-        // 1. 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException(userEmail));
+        // 1. 작성자 조건으로 삭제 (단일 DELETE)
+        int deleted = postRepository.deleteByIdAndAuthorId(id, userId);
 
-        // 2. 게시글 조회
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new PostNotFoundException("해당 포스트를 찾을 수 없습니다. ID: " + id));
+        // 2. 삭제된 행이 없으면 존재하지 않거나 작성자가 아님
+        if (deleted == 0) {
+            throw notFoundOrAccessDenied(id, "본인이 작성한 포스트만 삭제할 수 있습니다.");
+        }
+
+        log.debug("Post deleted: {}", id);
+
+        // 3. 변경 이벤트 발행 (커밋 후 응답 캐시 무효화)
+        eventPublisher.publishEvent(PostChangedEvent.of(id, PostChangedEvent.Type.DELETED));
+    }
+
+    /**
+     * DRAFT 게시글의 예약 발행 시각을 설정합니다.
+     * <p>
+     * 작성자 본인의 DRAFT 게시글만 예약할 수 있으며, 이미 예약된 게시글이면 시각을 변경합니다.
+     * 커밋 후 {@link io.github.tato126.practice.post.schedule.PostPublishScheduler}의 대기열에 등록되어
+     * 예약 시각에 PUBLISHED로 전환됩니다.
+     * </p>
+     *
+     * @param id        예약할 게시글 ID
+     * @param publishAt 발행할 시각
+     * @param userId    인증된 사용자 ID
+     * @return 예약 결과
+     * @throws PostNotFoundException       게시글이 존재하지 않는 경우
+     * @throws PostAccessDeniedException   작성자가 아닌 경우
+     * @throws PostNotSchedulableException 이미 발행된 게시글인 경우
+     */
+    @Transactional
+    public PostScheduleResponse schedule(Long id, LocalDateTime publishAt, Long userId) {
+
+        // 1. 작성자의 DRAFT 게시글에 발행 시각 설정 (단일 UPDATE, 컬럼 정밀도인 마이크로초로 절삭)
+        LocalDateTime scheduledAt = publishAt.truncatedTo(ChronoUnit.MICROS);
+        int updated = postRepository.updatePublishAtByIdAndAuthorId(id, userId, scheduledAt, LocalDateTime.now());
 
-        // 3. 권한 체크 (작성자 본인인지 확인)
-        if (!post.getAuthor().getId().equals(user.getId())) {
-            throw new PostAccessDeniedException("본인이 작성한 포스트만 삭제할 수 있습니다.");
+        // 2. 수정된 행이 없으면 존재하지 않거나, 작성자가 아니거나, 이미 발행됨
+        if (updated == 0) {
+            throw scheduleFailure(id, userId, "본인이 작성한 포스트만 예약할 수 있습니다.");
         }
 
-        // 4. 삭제
-        postRepository.delete(post);
+        log.debug("Post scheduled: {} at {}", id, scheduledAt);
 
-        log.debug("Post deleted: {}", id);
+        // 3. 예약 이벤트 발행 (커밋 후 대기열 등록)
+        eventPublisher.publishEvent(new PostScheduledEvent(id, scheduledAt));
+
+        return PostScheduleResponse.of(id, scheduledAt);
+    }
+
+    /**
+     * DRAFT 게시글의 예약 발행을 취소합니다.
+     * <p>
+     * 작성자 본인만 취소할 수 있으며, 예약되지 않은 DRAFT 게시글이면 아무것도 바뀌지 않습니다.
+     * </p>
+     *
+     * @param id     예약을 취소할 게시글 ID
+     * @param userId 인증된 사용자 ID
+     * @throws PostNotFoundException       게시글이 존재하지 않는 경우
+     * @throws PostAccessDeniedException   작성자가 아닌 경우
+     * @throws PostNotSchedulableException 이미 발행된 게시글인 경우
+     */
+    @Transactional
+    public void cancelSchedule(Long id, Long userId) {
+
+        // 1. 작성자의 DRAFT 게시글에서 발행 시각 제거 (단일 UPDATE)
+        int updated = postRepository.updatePublishAtByIdAndAuthorId(id, userId, null, LocalDateTime.now());
+
+        // 2. 수정된 행이 없으면 존재하지 않거나, 작성자가 아니거나, 이미 발행됨
+        if (updated == 0) {
+            throw scheduleFailure(id, userId, "본인이 작성한 포스트만 예약을 취소할 수 있습니다.");
+        }
+
+        log.debug("Post schedule cancelled: {}", id);
+
+        // 3. 취소 이벤트 발행 (커밋 후 대기열에서 제외)
+        eventPublisher.publishEvent(new PostScheduledEvent(id, null));
     }
 
     /**
@@ -144,24 +234,70 @@ public class PostService {
      * <p>
      * PUBLISHED 상태의 게시글만 조회되며, DRAFT 상태는 제외됩니다.
      * 기본 정렬은 생성일시 내림차순입니다.
+     * 작성자와 조인한 요약 프로젝션으로 조회하므로 한 번의 쿼리로 처리되며, 본문은 읽지 않습니다.
+     * 응답의 ETag가 조회 전의 목록 버전으로 계산되므로, 복제본의 이전 목록과 새 ETag가 짝지어지지 않도록 주 DB에서 조회합니다.
      * </p>
      *
      * @param pageable 페이지 정보 (페이지 번호, 크기, 정렬)
-     * @return 게시글 목록 (페이징 처리됨)
+     * @return 게시글 요약 목록 (페이징 처리됨)
      */
-    public Page<PostResponse> findAllPosts(Pageable pageable) {
+    public Page<PostSummaryResponse> findAllPosts(Pageable pageable) {
 
-        // PUBLISH 상태만 조회
-        Page<Post> posts = postRepository.findAllByStatus(Post.PostStatus.PUBLISHED, pageable);
+        // PUBLISH 상태만 조회 (작성자 조인 요약 프로젝션, 본문 제외, 목록 버전과 맞추기 위해 주 DB)
+        return ReadWriteRoutingDataSource.readFromPrimary(
+                () -> postRepository.findSummariesByStatus(Post.PostStatus.PUBLISHED, pageable));
+    }
 
-        // dto -> response
-        return posts.map(PostResponse::form);
+    /**
+     * 발행된 게시글 목록을 커서 기반으로 조회합니다.
+     * <p>
+     * (createdAt, id) 키셋 조건으로 조회하므로 OFFSET 스캔과 COUNT 쿼리가 없으며,
+     * 페이지 깊이와 관계없이 일정한 비용으로 조회됩니다.
+     * 커서가 없으면 첫 페이지를 조회합니다.
+     * 목록 조회와 같은 이유로 주 DB에서 조회합니다.
+     * </p>
+     *
+     * @param cursor    이전 응답에서 받은 커서 토큰 (첫 페이지는 null)
+     * @param direction 조회 방향 (NEXT: 더 오래된 게시글, PREV: 더 최신 게시글)
+     * @param size      페이지 크기 (1~100)
+     * @return 게시글 요약 목록과 다음/이전 커서
+     * @throws io.github.tato126.practice.common.excetion.post.InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public PostSliceResponse findPostsByCursor(String cursor, PostCursor.Direction direction, int size) {
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> findSliceByCursor(cursor, direction, size));
+    }
+
+    private PostSliceResponse findSliceByCursor(String cursor, PostCursor.Direction direction, int size) {
+
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize);
+
+        // 커서가 없으면 첫 페이지
+        if (cursor == null || cursor.isBlank()) {
+            Slice<PostSummaryResponse> posts = postRepository.findFirstSliceByStatus(Post.PostStatus.PUBLISHED, limit);
+            return PostSliceResponse.of(posts.getContent(), pageSize, posts.hasNext(), false);
+        }
+
+        PostCursor position = PostCursor.decode(cursor);
+
+        // 이전 페이지는 오름차순으로 조회한 뒤 뒤집는다
+        if (direction == PostCursor.Direction.PREV) {
+            Slice<PostSummaryResponse> posts = postRepository.findSliceAfter(
+                    Post.PostStatus.PUBLISHED, position.createdAt(), position.id(), limit);
+            return PostSliceResponse.of(posts.getContent().reversed(), pageSize, true, posts.hasNext());
+        }
+
+        Slice<PostSummaryResponse> posts = postRepository.findSliceBefore(
+                Post.PostStatus.PUBLISHED, position.createdAt(), position.id(), limit);
+        return PostSliceResponse.of(posts.getContent(), pageSize, posts.hasNext(), true);
     }
 
     /**
      * 특정 게시글의 상세 정보를 조회합니다.
      * <p>
      * PUBLISHED 상태의 게시글만 조회 가능하며, DRAFT 상태인 경우 접근이 거부됩니다.
+     * 조회 결과는 게시글 ID를 키로 캐시되며, DRAFT 게시글은 캐시에 저장되지 않습니다.
+     * 캐시에 저장될 결과이므로 읽기/쓰기 분리를 사용해도 주 DB에서 조회합니다.
      * </p>
      *
      * @param id 조회할 게시글 ID
@@ -169,17 +305,57 @@ public class PostService {
      * @throws PostNotFoundException     게시글이 존재하지 않는 경우
      * @throws PostAccessDeniedException 비공개(DRAFT) 게시글에 접근하는 경우
      */
+    @Cacheable(cacheNames = CacheConfig.POST_DETAIL, key = "#id", unless = "#result.status().name() == 'DRAFT'")
     public PostResponse findByPostId(Long id) {
 
-        // post 조회
-        Post post = postRepository.findById(id).orElseThrow(() -> new PostNotFoundException("포스트를 찾을 수 없습니다. ID: " + id));
+        // post 조회 (작성자 조인 프로젝션, 본문은 상세 조회에서만 읽는다)
+        // 결과가 캐시에 저장되므로 복제본이 아닌 주 DB에서 읽어, 무효화 직후 이전 행이 다시 캐시되지 않게 한다
+        PostResponse post = ReadWriteRoutingDataSource.readFromPrimary(() -> postRepository.findResponseById(id))
+                .orElseThrow(() -> new PostNotFoundException("포스트를 찾을 수 없습니다. ID: " + id));
 
         // draft 면 비공개 포스트 입니다.
-        if (post.getStatus() == Post.PostStatus.DRAFT) {
+        if (post.status() == Post.PostStatus.DRAFT) {
             throw new PostAccessDeniedException("비공개 포스트입니다.");
         }
 
-        return PostResponse.form(post);
+        return post;
+    }
+
+    /**
+     * 수정/삭제 대상 행이 없을 때 원인에 맞는 예외를 생성합니다.
+     * <p>
+     * 실패한 경우에만 존재 여부를 조회하므로, 정상 요청에는 추가 쿼리가 발생하지 않습니다.
+     * </p>
+     *
+     * @param id            게시글 ID
+     * @param deniedMessage 작성자가 아닐 때 사용할 메시지
+     * @return 게시글이 없으면 PostNotFoundException, 있으면 PostAccessDeniedException
+     */
+    private RuntimeException notFoundOrAccessDenied(Long id, String deniedMessage) {
+        if (!postRepository.existsById(id)) {
+            return new PostNotFoundException("해당 포스트를 찾을 수 없습니다. ID: " + id);
+        }
+        return new PostAccessDeniedException(deniedMessage);
+    }
+
+    /**
+     * 예약 대상 행이 없을 때 원인에 맞는 예외를 생성합니다.
+     *
+     * @param id            게시글 ID
+     * @param userId        인증된 사용자 ID
+     * @param deniedMessage 작성자가 아닐 때 사용할 메시지
+     * @return 게시글이 없으면 PostNotFoundException, 작성자가 아니면 PostAccessDeniedException,
+     * 이미 발행되었으면 PostNotSchedulableException
+     */
+    private RuntimeException scheduleFailure(Long id, Long userId, String deniedMessage) {
+        Post post = postRepository.findById(id).orElse(null);
+        if (post == null) {
+            return new PostNotFoundException("해당 포스트를 찾을 수 없습니다. ID: " + id);
+        }
+        if (!post.getAuthor().getId().equals(userId)) {
+            return new PostAccessDeniedException(deniedMessage);
+        }
+        return new PostNotSchedulableException("이미 발행된 포스트는 예약할 수 없습니다. ID: " + id);
     }
 
 }
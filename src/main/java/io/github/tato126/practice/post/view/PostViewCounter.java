@@ -0,0 +1,169 @@
+package io.github.tato126.practice.post.view;
+
+import io.github.tato126.practice.post.cache.PostResponseCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 메모리에 모았다가 주기적으로 DB에 반영하는 컴포넌트입니다.
+ * <p>
+ * 조회마다 UPDATE를 실행하면 인기 게시글의 행 잠금에서 요청이 직렬화되므로,
+ * 게시글별 {@link LongAdder}(스레드별 셀로 분산되는 카운터)에 증가분만 기록하고
+ * 일정 주기로 모든 증가분을 하나의 배치 UPDATE로 반영합니다.
+ * </p>
+ * <p>
+ * 반영 후에는 해당 게시글의 상세 응답 캐시를 제거하여, 응답의 조회수가 반영 주기 이상 늦어지지 않도록 합니다.
+ * 종료 시에는 남은 증가분을 마지막으로 반영합니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL = "update post set views = views + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostResponseCache postResponseCache;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 이전 반영에서 맵에서 제거된 카운터 (제거 직전에 참조를 얻은 요청의 증가분을 다음 반영에서 회수)
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    /**
+     * PostViewCounter를 초기화합니다.
+     *
+     * @param jdbcTemplate       배치 UPDATE에 사용할 JdbcTemplate
+     * @param transactionManager 배치 UPDATE를 하나의 트랜잭션으로 묶을 트랜잭션 매니저
+     * @param postResponseCache  반영 후 제거할 상세 응답 캐시
+     */
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           PostResponseCache postResponseCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postResponseCache = postResponseCache;
+    }
+
+    /**
+     * 게시글 조회수를 1 증가시킵니다. 잠금 없이 메모리에만 기록됩니다.
+     *
+     * @param postId 조회된 게시글 ID
+     */
+    public void increment(Long postId) {
+        LongAdder counter = pending.get(postId);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * 모인 조회수 증가분을 하나의 배치 UPDATE로 반영합니다.
+     * <p>
+     * 카운터는 읽은 값만큼만 차감하므로 반영 중의 증가분은 유실되지 않으며,
+     * 반영에 실패하면 증가분을 다시 카운터에 더해 다음 주기에 재시도합니다.
+     * 배치는 하나의 트랜잭션으로 실행되므로, 실패하면 이미 실행된 UPDATE도 롤백되어 재시도 시 중복 반영되지 않습니다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${post.views.flush-interval:10s}")
+    public synchronized void flush() {
+
+        // 1. 게시글별 증가분 수집 (ID 순으로 정렬하여 잠금 순서 고정)
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            drain(entry.getKey(), entry.getValue(), deltas);
+        }
+        List<Map.Entry<Long, LongAdder>> idle = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            if (!drain(entry.getKey(), entry.getValue(), deltas)
+                    && pending.remove(entry.getKey(), entry.getValue())) {
+                idle.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        retired = idle;
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 2. 배치 UPDATE (한 트랜잭션, 실패 시 전체 롤백)
+        long[] ids = new long[deltas.size()];
+        long[] views = new long[deltas.size()];
+        int n = 0;
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            ids[n] = delta.getKey();
+            views[n] = delta.getValue();
+            n++;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, views[i]);
+                            ps.setLong(2, ids[i]);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return ids.length;
+                        }
+                    }));
+        } catch (DataAccessException | TransactionException e) {
+            // 실패한 증가분은 되돌려 다음 주기에 재시도
+            log.warn("Failed to flush view counts for {} posts, will retry", ids.length, e);
+            for (int i = 0; i < ids.length; i++) {
+                pending.computeIfAbsent(ids[i], id -> new LongAdder()).add(views[i]);
+            }
+            return;
+        }
+
+        // 3. 반영된 게시글의 상세 응답 캐시 제거 (다음 조회에서 최신 조회수로 다시 적재)
+        for (long id : ids) {
+            postResponseCache.evict(id);
+        }
+
+        log.debug("Flushed view counts for {} posts", ids.length);
+    }
+
+    /**
+     * 종료 시 남은 조회수를 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static boolean drain(Long postId, LongAdder counter, Map<Long, Long> deltas) {
+        long count = counter.sum();
+        if (count == 0) {
+            return false;
+        }
+        counter.add(-count);
+        deltas.merge(postId, count, Long::sum);
+        return true;
+    }
+}
@@ -5,6 +5,10 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,6 +21,12 @@ import java.time.LocalDate;
  * 이메일, 비밀번호(암호화), 닉네임, 자기소개 등의 사용자 정보를 저장합니다.
  * JPA Auditing을 통해 생성일시와 수정일시가 자동으로 관리됩니다.
  * </p>
+ * <p>
+ * 사용자 정보는 거의 변경되지 않으므로 2차 캐시(JCache, {@code user} 영역)에 보관하며,
+ * 이메일을 자연 키로 매핑하여 이메일 조회도 자연 키 캐시({@code user-natural-id} 영역)를 거칩니다.
+ * READ_WRITE 전략이므로 엔티티 변경(비밀번호 재해싱 등)은 커밋 시 캐시에 반영됩니다.
+ * JPQL 벌크 UPDATE로 사용자를 변경하는 경우에는 캐시를 직접 제거해야 합니다.
+ * </p>
  *
  * @author tato126
  * @since 1.0
@@ -25,19 +35,24 @@ import java.time.LocalDate;
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 @Entity
 public class User {
 
     /**
-     * 사용자 고유 ID (자동 생성)
+     * 사용자 고유 ID (시퀀스에서 50개 단위로 미리 할당)
      */
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
     @Id
     private Long id;
 
     /**
-     * 사용자 이메일 (로그인 ID로 사용, 고유값)
+     * 사용자 이메일 (로그인 ID로 사용, 고유값, 변경 불가 자연 키)
      */
+    @NaturalId
+    @Column(nullable = false, updatable = false)
     private String email;
 
     /**
@@ -83,6 +98,15 @@ public class User {
         this.bio = bio;
     }
 
+    /**
+     * 암호화된 비밀번호를 변경합니다.
+     *
+     * @param encodedPassword 새로 암호화된 비밀번호
+     */
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     /**
      * UserRequest DTO로부터 User 엔티티를 생성합니다.
      *
@@ -0,0 +1,29 @@
+package io.github.tato126.practice.user.repository;
+
+import io.github.tato126.practice.user.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 이메일(자연 키)로 사용자를 조회하는 Repository 조각(fragment)입니다.
+ * <p>
+ * 파생 쿼리({@code findByEmail})는 매번 SQL을 실행하므로, Hibernate의 자연 키 조회로 대체하여
+ * 자연 키 캐시와 2차 캐시를 거치도록 합니다. 구현은 {@link UserNaturalIdRepositoryImpl}입니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * 이메일로 사용자를 조회합니다.
+     * <p>
+     * 캐시에 있으면 SQL 없이 반환하며, 없으면 조회 후 캐시에 저장합니다.
+     * </p>
+     *
+     * @param email 조회할 사용자 이메일
+     * @return 사용자 정보 (Optional)
+     */
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,33 @@
+package io.github.tato126.practice.user.repository;
+
+import io.github.tato126.practice.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * {@link UserNaturalIdRepository}의 Hibernate 구현입니다.
+ * <p>
+ * {@code bySimpleNaturalId}는 자연 키 캐시에서 이메일에 해당하는 ID를 찾고,
+ * 2차 캐시에서 엔티티를 읽으므로 반복 조회 시 SQL을 실행하지 않습니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Transactional(readOnly = true)
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
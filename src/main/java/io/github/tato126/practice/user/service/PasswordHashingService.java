@@ -0,0 +1,182 @@
+package io.github.tato126.practice.user.service;
+
+import io.github.tato126.practice.common.excetion.login.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해싱을 전용 스레드 풀에서 수행하는 서비스 클래스입니다.
+ * <p>
+ * BCrypt 연산은 요청당 수십~수백 ms의 CPU를 사용하므로, 크기가 고정된 플랫폼 스레드 풀과
+ * 길이가 제한된 대기열에서만 실행합니다. 대기열이 가득 차면 즉시
+ * {@link PasswordHashingUnavailableException}을 발생시켜 로그인 폭주가
+ * 다른 API의 처리 스레드를 잠식하지 않도록 합니다.
+ * </p>
+ * <p>
+ * BCrypt 연산 시간은 {@code password.hashing}(operation별), 대기열에서 기다린 시간은
+ * {@code password.hashing.queue} 타이머로 기록되며, 스레드 풀 상태는 {@code executor.*} 지표로 노출됩니다.
+ * </p>
+ *
+ * @author tato126
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueTimer;
+
+    /**
+     * PasswordHashingService를 초기화합니다.
+     *
+     * @param passwordEncoder BCrypt 비밀번호 인코더
+     * @param strength        BCrypt 비용 계수 (SecurityConfig와 동일한 설정값)
+     * @param threads         해싱 전용 스레드 수 (0 이하면 CPU 코어 수)
+     * @param queueCapacity   해싱 대기열 최대 길이
+     * @param timeout         해싱 결과 최대 대기 시간
+     * @param meterRegistry   해싱 시간 타이머를 등록할 레지스트리
+     */
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${security.password.bcrypt-strength:10}") int strength,
+                                  @Value("${security.password.hashing.threads:0}") int threads,
+                                  @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${security.password.hashing.timeout:5s}") Duration timeout,
+                                  MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = hashingTimer(meterRegistry, "encode");
+        this.matchesTimer = hashingTimer(meterRegistry, "matches");
+        this.queueTimer = Timer.builder("password.hashing.queue")
+                .description("해싱 작업이 대기열에서 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "password.hashing", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * 평문 비밀번호를 암호화합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 암호화된 비밀번호
+     * @throws PasswordHashingUnavailableException 해싱 대기열이 가득 찼거나 제한 시간을 초과한 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 평문 비밀번호가 암호화된 비밀번호와 일치하는지 확인합니다.
+     *
+     * @param rawPassword     평문 비밀번호
+     * @param encodedPassword 저장된 암호화 비밀번호
+     * @return 일치 여부
+     * @throws PasswordHashingUnavailableException 해싱 대기열이 가득 찼거나 제한 시간을 초과한 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 비밀번호가 현재 설정된 비용 계수와 다르게 암호화되었는지 확인합니다.
+     * <p>
+     * 비용 계수를 올리거나 내린 경우 모두 재해싱 대상이 되며,
+     * BCrypt 형식이 아닌 값은 재해싱하지 않습니다.
+     * </p>
+     *
+     * @param encodedPassword 저장된 암호화 비밀번호
+     * @return 재해싱이 필요하면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        // BCrypt 형식: $2a$10$<salt+hash>
+        String[] parts = encodedPassword.split("\\$");
+        if (parts.length < 4) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(parts[2]) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private <T> T execute(Timer hashTimer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full (active: {}, queued: {})",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new PasswordHashingUnavailableException();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingUnavailableException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer hashingTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing")
+                .description("BCrypt 연산 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 종료 시 해싱 스레드 풀을 정리합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -2,21 +2,23 @@ package io.github.tato126.practice.user.service;
 
 import io.github.tato126.practice.common.excetion.login.DuplicateEmailException;
 import io.github.tato126.practice.common.excetion.login.InvalidCredentialsException;
+import io.github.tato126.practice.common.excetion.login.PasswordHashingUnavailableException;
 import io.github.tato126.practice.config.jwt.JwtUtil;
 import io.github.tato126.practice.user.dto.request.UserRequest;
 import io.github.tato126.practice.user.dto.response.LoginResponse;
 import io.github.tato126.practice.user.dto.response.UserResponse;
 import io.github.tato126.practice.user.entity.User;
 import io.github.tato126.practice.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /**
  * 사용자 인증 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  * <p>
  * 회원가입, 로그인 등의 기능을 제공하며, 비밀번호 암호화 및 JWT 토큰 생성을 처리합니다.
+ * 비밀번호 암호화와 검증은 {@link PasswordHashingService}의 전용 스레드 풀에서 수행됩니다.
  * </p>
  *
  * @author tato126
@@ -24,11 +26,12 @@ import org.springframework.stereotype.Service;
  */
 @Slf4j
 @RequiredArgsConstructor
+@Timed(value = "app.service", histogram = true)
 @Service
 public class UserLoginService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
 
     /**
@@ -39,7 +42,8 @@ public class UserLoginService {
      *
      * @param request 회원가입 요청 정보 (이메일, 비밀번호, 닉네임, 자기소개)
      * @return 생성된 사용자 정보 (비밀번호 제외)
-     * @throws DuplicateEmailException 이메일이 이미 존재하는 경우
+     * @throws DuplicateEmailException             이메일이 이미 존재하는 경우
+     * @throws PasswordHashingUnavailableException 해싱 대기열이 가득 찬 경우
      */
     public UserResponse signup(UserRequest request) {
 
@@ -50,7 +54,7 @@ public class UserLoginService {
         }
 
         // 비밀번호 인코딩
-        String encodedPassword = passwordEncoder.encode(request.password());
+        String encodedPassword = passwordHashingService.encode(request.password());
 
         // 인코딩한 데이터
         User newUser = User.form(request, encodedPassword);
@@ -68,11 +72,13 @@ public class UserLoginService {
      * <p>
      * 이메일과 비밀번호를 검증한 후, 유효한 경우 JWT 토큰을 생성하여 반환합니다.
      * 보안을 위해 이메일/비밀번호 오류를 구분하지 않고 동일한 예외를 발생시킵니다.
+     * 저장된 비밀번호의 비용 계수가 현재 설정과 다르면 로그인 성공 시 재해싱하여 저장합니다.
      * </p>
      *
      * @param request 로그인 요청 정보 (이메일, 비밀번호)
      * @return 사용자 정보와 JWT 액세스 토큰
-     * @throws InvalidCredentialsException 이메일이 존재하지 않거나 비밀번호가 일치하지 않는 경우
+     * @throws InvalidCredentialsException         이메일이 존재하지 않거나 비밀번호가 일치하지 않는 경우
+     * @throws PasswordHashingUnavailableException 해싱 대기열이 가득 찬 경우
      */
     public LoginResponse login(UserRequest request) {
 
@@ -83,10 +89,18 @@ public class UserLoginService {
 
         // 패스워드가 일치하나요?
         // 보안을 위해 이메일/비밀번호 구분 없이 동일한 예외 발생
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.password(), user.getPassword())) {
             throw new InvalidCredentialsException();
         }
 
+        // 비용 계수가 바뀌었나요?
+        // 평문 비밀번호를 알고 있는 지금 현재 설정으로 재해싱
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            user.changePassword(passwordHashingService.encode(request.password()));
+            userRepository.save(user);
+            log.debug("login password rehashed: {}", user.getId());
+        }
+
         // jwt 토큰 생성
         String accessToken = jwtUtil.generateAccessToken(user.getId(), user.getEmail());
 
@@ -4,6 +4,7 @@ import io.github.tato126.practice.common.excetion.login.UserNotFoundException;
 import io.github.tato126.practice.user.dto.response.UserResponse;
 import io.github.tato126.practice.user.entity.User;
 import io.github.tato126.practice.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Service;
  */
 @Slf4j
 @RequiredArgsConstructor
+@Timed(value = "app.service", histogram = true)
 @Service
 public class UserProfileService {
 
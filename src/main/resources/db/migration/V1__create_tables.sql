@@ -0,0 +1,31 @@
+-- 초기 스키마: 사용자, 게시글
+-- ID는 Hibernate pooled 시퀀스(allocationSize = 50)와 같은 증가폭을 사용해야 합니다.
+
+create sequence users_seq start with 1 increment by 50;
+create sequence post_seq start with 1 increment by 50;
+
+create table users (
+    id         bigint       not null,
+    email      varchar(255) not null,
+    username   varchar(255),
+    password   varchar(255),
+    bio        varchar(255),
+    created_at date,
+    updated_at date,
+    constraint pk_users primary key (id)
+);
+
+create table post (
+    id         bigint       not null,
+    title      varchar(255),
+    content    clob,
+    excerpt    varchar(201),
+    user_id    bigint       not null,
+    status     varchar(20)  not null,
+    views      bigint       default 0 not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    constraint pk_post primary key (id),
+    constraint fk_post_user foreign key (user_id) references users (id),
+    constraint ck_post_status check (status in ('DRAFT', 'PUBLISHED'))
+);
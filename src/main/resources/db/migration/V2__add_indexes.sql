@@ -0,0 +1,10 @@
+-- 조회 경로별 인덱스
+
+-- 발행 게시글 목록/커서 조회: where status = ? order by created_at desc, id desc
+create index idx_post_status_created_at_id on post (status, created_at desc, id desc);
+
+-- 작성자별 게시글 (수정/삭제의 작성자 조건, 작성자 조인)
+create index idx_post_user_id on post (user_id);
+
+-- 로그인/회원가입/프로필 조회의 이메일 조회, 중복 가입 방지
+create unique index uk_users_email on users (email);
@@ -0,0 +1,8 @@
+-- 복제 지연 측정용 하트비트 (ReplicaLagMonitor가 주 DB에 기록하고 복제본에서 읽어 지연을 계산)
+create table replication_heartbeat (
+    id      int          not null,
+    beat_at timestamp(6) not null,
+    constraint pk_replication_heartbeat primary key (id)
+);
+
+insert into replication_heartbeat (id, beat_at) values (1, current_timestamp);
@@ -0,0 +1,5 @@
+-- 예약 발행 시각 (DRAFT 게시글만 설정, 발행/취소 시 null)
+alter table post add column publish_at timestamp(6);
+
+-- 기동 시 대기 중인 예약 복구: where status = 'DRAFT' and publish_at is not null
+create index idx_post_status_publish_at on post (status, publish_at);
@@ -0,0 +1,246 @@
+package io.github.tato126.practice;
+
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.post.repository.PostRepository;
+import io.github.tato126.practice.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway로 만든 스키마에서 주요 리포지토리 메서드의 H2 실행 계획(EXPLAIN)을 검사합니다.
+ * <p>
+ * 리포지토리 메서드를 실제로 호출해 Hibernate가 생성한 SQL과 바인딩 값을 JDBC 계층에서 가로채고,
+ * 같은 SQL을 같은 값으로 EXPLAIN합니다. 인덱스가 빠지거나 JPQL/매핑이 바뀌어
+ * 전체 테이블 스캔(tableScan)으로 돌아가면 실패합니다.
+ * </p>
+ */
+@DataJpaTest
+@Import(QueryPlanTest.CapturingDataSourceConfig.class)
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        for (long u = 1; u <= 5; u++) {
+            jdbcTemplate.update("insert into users (id, email, username, password) values (?, ?, ?, ?)",
+                    u, "user" + u + "@example.com", "user" + u, "encoded");
+        }
+        // 페이지 크기(20)보다 많은 PUBLISHED 게시글을 두어 count 쿼리까지 실행되도록 함
+        for (long p = 1; p <= 60; p++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(p));
+            boolean draft = p % 4 == 0;
+            jdbcTemplate.update("""
+                            insert into post (id, title, content, excerpt, user_id, status, publish_at, created_at, updated_at)
+                            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                            """,
+                    p, "title " + p, "content " + p, "content " + p, p % 5 + 1,
+                    draft ? "DRAFT" : "PUBLISHED", draft ? Timestamp.valueOf(now.plusHours(p)) : null,
+                    createdAt, createdAt);
+        }
+        ((CapturingDataSource) dataSource).clear();
+    }
+
+    static Stream<Arguments> hotQueries() {
+        PageRequest latest = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return Stream.of(
+                Arguments.of("PostRepository.findSummariesByStatus",
+                        (HotQuery) (posts, users) -> posts.findSummariesByStatus(Post.PostStatus.PUBLISHED, latest),
+                        0, "POST", "IDX_POST_STATUS_CREATED_AT_ID"),
+                Arguments.of("PostRepository.findSummariesByStatus (count)",
+                        (HotQuery) (posts, users) -> posts.findSummariesByStatus(Post.PostStatus.PUBLISHED, latest),
+                        1, "POST", "IDX_POST_STATUS_CREATED_AT_ID"),
+                Arguments.of("PostRepository.findSliceBefore",
+                        (HotQuery) (posts, users) -> posts.findSliceBefore(Post.PostStatus.PUBLISHED,
+                                LocalDateTime.now().minusMinutes(10), 10L, PageRequest.ofSize(20)),
+                        0, "POST", "IDX_POST_STATUS_CREATED_AT_ID"),
+                Arguments.of("PostRepository.findResponseById",
+                        (HotQuery) (posts, users) -> posts.findResponseById(10L),
+                        0, "POST", "PRIMARY_KEY"),
+                Arguments.of("PostRepository.updateByIdAndAuthorId",
+                        (HotQuery) (posts, users) -> posts.updateByIdAndAuthorId(10L, 1L, "new", "new", "new",
+                                LocalDateTime.now()),
+                        0, "POST", "PRIMARY_KEY"),
+                Arguments.of("PostRepository.findPendingPublishes",
+                        (HotQuery) (posts, users) -> posts.findPendingPublishes(),
+                        0, "POST", "IDX_POST_STATUS_PUBLISH_AT"),
+                Arguments.of("PostRepository.findPendingPublishesByIdIn",
+                        (HotQuery) (posts, users) -> posts.findPendingPublishesByIdIn(List.of(4L, 8L, 12L)),
+                        0, "POST", "PRIMARY_KEY"),
+                Arguments.of("UserRepository.findByEmail",
+                        (HotQuery) (posts, users) -> users.findByEmail("user3@example.com"),
+                        0, "USERS", "UK_USERS_EMAIL")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueriesUseIndexes(String name, HotQuery query, int statementIndex, String table, String expectedIndex) {
+        query.run(postRepository, userRepository);
+
+        List<CapturedStatement> captured = ((CapturingDataSource) dataSource).captured();
+        assertThat(captured).as("statements executed by %s", name).hasSizeGreaterThan(statementIndex);
+        CapturedStatement statement = captured.get(statementIndex);
+
+        String plan = jdbcTemplate.query(connection -> statement.prepare(connection, "explain "),
+                rs -> rs.next() ? rs.getString(1) : null);
+
+        assertThat(plan)
+                .as("plan for %s:%n%s", name, plan)
+                .doesNotContainIgnoringCase("PUBLIC." + table + ".tableScan")
+                .containsIgnoringCase(expectedIndex);
+    }
+
+    @FunctionalInterface
+    interface HotQuery {
+        void run(PostRepository posts, UserRepository users);
+    }
+
+    /**
+     * 실행된 SQL과 그 바인딩 호출(setXxx)입니다.
+     */
+    record CapturedStatement(String sql, List<Binding> bindings) {
+
+        PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+            for (Binding binding : bindings) {
+                binding.apply(statement);
+            }
+            return statement;
+        }
+    }
+
+    record Binding(Method method, Object[] args) {
+
+        void apply(PreparedStatement statement) throws SQLException {
+            try {
+                method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof SQLException sqlException
+                        ? sqlException : new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource target && !(bean instanceof CapturingDataSource)
+                            ? new CapturingDataSource(target) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * PreparedStatement가 실행될 때마다 SQL과 바인딩 값을 기록하는 DataSource입니다.
+     */
+    static final class CapturingDataSource extends DelegatingDataSource {
+
+        private final List<CapturedStatement> captured = new CopyOnWriteArrayList<>();
+
+        CapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        List<CapturedStatement> captured() {
+            return List.copyOf(captured);
+        }
+
+        void clear() {
+            captured.clear();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capture(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capture(super.getConnection(username, password));
+        }
+
+        private Connection capture(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                            return capture(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement capture(PreparedStatement statement, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            bindings.add(new Binding(method, args.clone()));
+                        } else if (name.equals("clearParameters")) {
+                            bindings.clear();
+                        } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                            captured.add(new CapturedStatement(sql, List.copyOf(bindings)));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.tato126.practice.config.datasource;
+
+import io.github.tato126.practice.config.jwt.JwtPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final String suffix = UUID.randomUUID().toString();
+    private final DataSource primary = h2("primary-" + suffix);
+    private final DataSource replica = h2("replica-" + suffix);
+    private final ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(2));
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        for (DataSource target : List.of(primary, replica)) {
+            JdbcTemplate jdbc = new JdbcTemplate(target);
+            jdbc.execute("create table replication_heartbeat (id int primary key, beat_at timestamp(6) not null)");
+            jdbc.update("insert into replication_heartbeat values (1, current_timestamp)");
+            jdbc.execute("create table node (name varchar(20))");
+            jdbc.update("insert into node values (?)", target == primary ? "primary" : "replica");
+        }
+
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, lagMonitor, Duration.ofMinutes(1), 100));
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_usesReplicaWhenCaughtUp() {
+        replicate();
+
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(writeTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_fallsBackToPrimaryWhenReplicaLags() {
+        new JdbcTemplate(replica).update("update replication_heartbeat set beat_at = ? where id = 1",
+                Timestamp.from(Instant.now().minusSeconds(10)));
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_usesPrimaryBeforeFirstMeasurement() {
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_readsOwnWritesFromPrimary() {
+        replicate();
+        authenticate(1L);
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("insert into node values ('written')"));
+
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("primary");
+
+        authenticate(2L);
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyTransaction_afterRolledBackOrNonTransactionalWrite_usesReplica() {
+        replicate();
+        authenticate(1L);
+
+        // 커밋되지 않은 쓰기와 트랜잭션 밖의 SQL은 최근 쓰기로 기록하지 않음
+        writeTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into node values ('rolled back')");
+            status.setRollbackOnly();
+        });
+        jdbcTemplate.queryForObject("select count(*) from node", Integer.class);
+
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void cacheFillingRead_afterAnotherUsersWrite_usesPrimary() {
+        replicate();
+        authenticate(1L);
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("update node set name = 'updated' where name = 'primary'"));
+
+        // 복제본에는 아직 반영되지 않은 상태에서 다른 사용자가 캐시를 채우는 조회를 실행
+        authenticate(2L);
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readTx.execute(status -> ReadWriteRoutingDataSource.readFromPrimary(this::currentNode)))
+                .isEqualTo("updated");
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node order by name limit 1", String.class);
+    }
+
+    // 복제본 하트비트를 주 DB와 같게 맞춰 복제가 따라잡은 상태를 만든다
+    private void replicate() {
+        lagMonitor.check();
+        Timestamp beat = new JdbcTemplate(primary)
+                .queryForObject("select beat_at from replication_heartbeat where id = 1", Timestamp.class);
+        new JdbcTemplate(replica).update("update replication_heartbeat set beat_at = ? where id = 1", beat);
+        lagMonitor.check();
+    }
+
+    private void authenticate(Long userId) {
+        JwtPrincipal principal = new JwtPrincipal(userId, "user" + userId + "@example.com");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
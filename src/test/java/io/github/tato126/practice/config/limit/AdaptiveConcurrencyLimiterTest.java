@@ -0,0 +1,49 @@
+package io.github.tato126.practice.config.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(4, 2, 8, Duration.ofMillis(100), 0.5);
+
+    @Test
+    void tryAcquire_rejectsBeyondLimit() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void release_growsOnFastResponsesUnderLoadAndBacksOffOnSlowOnes() {
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(5);
+
+        limiter.release(SLOW, false);
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        limiter.release(FAST, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_doesNotGrowWhenMostlyIdle() {
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.tato126.practice.config.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogRingBufferTest {
+
+    private final AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+
+    @Test
+    void offer_dropsWhenFullInsteadOfBlocking() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(offer(i)).isTrue();
+        }
+
+        assertThat(offer(4)).isFalse();
+        assertThat(buffer.dropped()).isEqualTo(1);
+        assertThat(buffer.backlog()).isEqualTo(4);
+    }
+
+    @Test
+    void poll_returnsEntriesInOrderAndReusesSlots() {
+        List<Integer> statuses = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                offer(round * 4 + i);
+            }
+            while (buffer.poll(entry -> statuses.add(entry.status))) {
+            }
+        }
+
+        assertThat(statuses).hasSize(12).isSorted();
+        assertThat(buffer.dropped()).isZero();
+    }
+
+    @Test
+    void offer_concurrentProducersLoseNothingWithinCapacity() throws InterruptedException {
+        AccessLogRingBuffer large = new AccessLogRingBuffer(4096);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            producers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    large.offer(0L, "GET", "/api/posts", 200, 0L, 0, -1L);
+                }
+            }));
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        int[] polled = new int[1];
+        while (large.poll(entry -> polled[0]++)) {
+        }
+        assertThat(polled[0]).isEqualTo(4000);
+    }
+
+    private boolean offer(int status) {
+        return buffer.offer(0L, "GET", "/api/posts", status, 0L, 0, -1L);
+    }
+}
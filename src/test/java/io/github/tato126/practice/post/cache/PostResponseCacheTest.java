@@ -0,0 +1,185 @@
+package io.github.tato126.practice.post.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.tato126.practice.config.CacheConfig;
+import io.github.tato126.practice.post.dto.response.PostResponse;
+import io.github.tato126.practice.post.entity.Post;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostResponseCacheTest {
+
+    private static final int BODY_SIZE = 200 * 1024;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void constructor_rejectsChunkSizesThatDoNotDivideTheSlab() {
+        assertThatThrownBy(() -> cache(DataSize.ofMegabytes(8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cache(DataSize.ofKilobytes(3)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cache(DataSize.ofBytes(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void serve_writesOriginalBytesWhenEntryIsEvictedMidResponse() throws IOException {
+        // 64KB 청크 64개, 항목당 4청크 → 16개를 넘게 저장하면 LRU 축출
+        PostResponseCache cache = cache(DataSize.ofKilobytes(64));
+        cache.put(post(1L), cache.stamp());
+
+        byte[] body = serveWhile(cache, 1L, () -> {
+            for (long id = 2; id <= 40; id++) {
+                cache.put(post(id), cache.stamp());
+            }
+        });
+
+        // 응답 중 축출되어도 청크는 재사용되지 않고, 응답이 끝난 뒤에 반환된다
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(post(1L)));
+        assertThat(serve(cache, 1L)).isNull();
+        assertThat(serve(cache, 40L)).isEqualTo(objectMapper.writeValueAsBytes(post(40L)));
+    }
+
+    @Test
+    void put_skipsResponsesReadBeforeInvalidation() throws IOException {
+        PostResponseCache cache = cache(DataSize.ofKilobytes(64));
+
+        // 조회 중 무효화된 응답은 저장하지 않는다
+        long stamp = cache.stamp();
+        cache.invalidate(1L);
+        cache.put(post(1L), stamp);
+        assertThat(serve(cache, 1L)).isNull();
+
+        // 무효화 이후에 조회한 응답은 저장한다
+        cache.put(post(1L), cache.stamp());
+        assertThat(serve(cache, 1L)).isNotNull();
+
+        // 응답 중 무효화되어도 쓰는 중인 응답은 온전하고, 이후 조회는 캐시 미스
+        byte[] body = serveWhile(cache, 1L, () -> cache.invalidate(1L));
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(post(1L)));
+        assertThat(serve(cache, 1L)).isNull();
+    }
+
+    @Test
+    void put_givesUpWhenEveryChunkIsHeldByResponsesInProgress() throws IOException {
+        // 1MB 청크 4개, 항목당 1청크
+        PostResponseCache cache = cache(DataSize.ofMegabytes(1));
+        for (long id = 1; id <= 4; id++) {
+            cache.put(post(id), cache.stamp());
+        }
+
+        serveWhile(cache, 1L, () -> serveWhile(cache, 2L, () -> serveWhile(cache, 3L, () -> serveWhile(cache, 4L, () -> {
+            cache.put(post(5L), cache.stamp());
+            assertThat(serve(cache, 5L)).isNull();
+        }))));
+
+        // 응답이 끝나 청크가 반환되면 다시 저장할 수 있다
+        cache.put(post(5L), cache.stamp());
+        assertThat(serve(cache, 5L)).isEqualTo(objectMapper.writeValueAsBytes(post(5L)));
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedWhenSlabsAreFull() throws IOException {
+        PostResponseCache cache = cache(DataSize.ofMegabytes(1));
+        for (long id = 1; id <= 4; id++) {
+            cache.put(post(id), cache.stamp());
+        }
+        serve(cache, 1L);
+
+        cache.put(post(5L), cache.stamp());
+
+        assertThat(serve(cache, 2L)).isNull();
+        assertThat(serve(cache, 1L)).isNotNull();
+        assertThat(serve(cache, 5L)).isNotNull();
+    }
+
+    private PostResponseCache cache(DataSize chunkSize) {
+        return new PostResponseCache(objectMapper, new ConcurrentMapCacheManager(CacheConfig.POST_DETAIL),
+                true, DataSize.ofMegabytes(4), chunkSize, DataSize.ofKilobytes(256));
+    }
+
+    // 게시글마다 다른 문자로 본문을 채워, 청크가 다른 항목에 재사용되면 내용이 달라지도록 한다
+    private static PostResponse post(long id) {
+        LocalDateTime at = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return PostResponse.builder()
+                .id(id)
+                .title("post " + id)
+                .content(String.valueOf((char) ('a' + id % 26)).repeat(BODY_SIZE))
+                .userId(1L)
+                .nickname("writer")
+                .status(Post.PostStatus.PUBLISHED)
+                .createdAt(at)
+                .updatedAt(at)
+                .build();
+    }
+
+    private static byte[] serve(PostResponseCache cache, long id) throws IOException {
+        return serveWhile(cache, id, () -> {
+        });
+    }
+
+    // 응답의 첫 쓰기 시점(참조를 보유한 상태)에 action을 실행한다
+    private static byte[] serveWhile(PostResponseCache cache, long id, IoAction action) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            private boolean ran;
+
+            @Override
+            public ServletOutputStream getOutputStream() {
+                ServletOutputStream delegate = super.getOutputStream();
+                return new ServletOutputStream() {
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        runOnce();
+                        delegate.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        runOnce();
+                        delegate.write(b, off, len);
+                    }
+                };
+            }
+
+            private void runOnce() throws IOException {
+                if (!ran) {
+                    ran = true;
+                    action.run();
+                }
+            }
+        };
+
+        if (!cache.serve(id, new ServletWebRequest(new MockHttpServletRequest("GET", "/api/posts/" + id), response))) {
+            return null;
+        }
+        return response.getContentAsByteArray();
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
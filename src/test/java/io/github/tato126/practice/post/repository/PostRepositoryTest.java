@@ -0,0 +1,91 @@
+package io.github.tato126.practice.post.repository;
+
+import io.github.tato126.practice.post.dto.response.PostSummaryResponse;
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 한 페이지(20건)보다 많이 저장하여 count 쿼리까지 실행되도록 함
+        for (int u = 0; u < 3; u++) {
+            User author = entityManager.persist(User.builder()
+                    .email("author" + u + "@example.com")
+                    .username("author" + u)
+                    .password("encoded")
+                    .build());
+
+            for (int p = 0; p < 10; p++) {
+                entityManager.persist(Post.builder()
+                        .title("title " + u + "-" + p)
+                        .content("content " + u + "-" + p)
+                        .author(author)
+                        .status(Post.PostStatus.PUBLISHED)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findSummariesByStatus_loadsAuthorsInSingleQuery() {
+        Page<PostSummaryResponse> posts = postRepository.findSummariesByStatus(
+                Post.PostStatus.PUBLISHED, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(posts.getContent()).hasSize(20)
+                .allSatisfy(post -> assertThat(post.nickname()).startsWith("author"));
+        assertThat(posts.getTotalElements()).isEqualTo(30);
+        // 작성자를 조인한 목록 쿼리 1번 + count 쿼리 1번 (작성자별 추가 조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findSummariesByStatus_returnsExcerptComputedAtWrite() {
+        Page<PostSummaryResponse> posts = postRepository.findSummariesByStatus(
+                Post.PostStatus.PUBLISHED, PageRequest.of(0, 20));
+
+        assertThat(posts.getContent())
+                .allSatisfy(post -> assertThat(post.excerpt()).startsWith("content "));
+    }
+
+    @Test
+    void findFirstSliceByStatus_loadsAuthorsInSingleQuery() {
+        Slice<PostSummaryResponse> posts = postRepository.findFirstSliceByStatus(
+                Post.PostStatus.PUBLISHED, PageRequest.of(0, 10));
+
+        assertThat(posts.getContent()).hasSize(10)
+                .allSatisfy(post -> assertThat(post.nickname()).startsWith("author"));
+        assertThat(posts.hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.tato126.practice.post.schedule;
+
+import io.github.tato126.practice.post.event.PostScheduledEvent;
+import io.github.tato126.practice.post.event.PostsPublishedEvent;
+import io.github.tato126.practice.post.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostPublishSchedulerTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PostPublishScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        scheduler = new PostPublishScheduler(postRepository, transactionManager, eventPublisher,
+                500, Duration.ofMillis(200), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void start_publishesRecoveredSchedulesThatAreAlreadyDue() {
+        PendingPublish due = new PendingPublish(1L, LocalDateTime.now().minusMinutes(1));
+        when(postRepository.findPendingPublishes()).thenReturn(List.of(due));
+        when(postRepository.findPendingPublishesByIdIn(List.of(1L))).thenReturn(List.of(due));
+
+        scheduler.start();
+
+        verify(postRepository, timeout(2000)).publishDue(eq(List.of(1L)), any());
+        verify(eventPublisher, timeout(2000)).publishEvent(new PostsPublishedEvent(List.of(1L)));
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    void onPostScheduled_cancelSkipsTheQueuedEntry() {
+        when(postRepository.findPendingPublishes()).thenReturn(List.of());
+        scheduler.start();
+
+        scheduler.onPostScheduled(new PostScheduledEvent(1L, LocalDateTime.now().plusNanos(200_000_000)));
+        scheduler.onPostScheduled(new PostScheduledEvent(1L, null));
+
+        verify(postRepository, after(600).never()).findPendingPublishesByIdIn(anyCollection());
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    void onPostScheduled_rescheduleKeepsOnlyTheLatestEntry() {
+        when(postRepository.findPendingPublishes()).thenReturn(List.of());
+        scheduler.start();
+
+        scheduler.onPostScheduled(new PostScheduledEvent(1L, LocalDateTime.now().plusNanos(200_000_000)));
+        scheduler.onPostScheduled(new PostScheduledEvent(1L, LocalDateTime.now().plusHours(1)));
+
+        // 이전 항목은 만료되어도 건너뛰고, 새 예약은 대기열에 남는다
+        verify(postRepository, after(600).never()).findPendingPublishesByIdIn(anyCollection());
+        assertThat(pending()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_requeuesRowsWhosePublishTimeHasNotPassed() {
+        // 대기열은 지금 만료되었지만 DB의 예약 시각은 조금 뒤인 경우 (예: 다른 인스턴스에서 변경)
+        LocalDateTime publishAt = LocalDateTime.now().plusNanos(300_000_000);
+        when(postRepository.findPendingPublishes()).thenReturn(List.of());
+        when(postRepository.findPendingPublishesByIdIn(List.of(1L)))
+                .thenReturn(List.of(new PendingPublish(1L, publishAt)));
+        scheduler.start();
+
+        scheduler.onPostScheduled(new PostScheduledEvent(1L, LocalDateTime.now().minusSeconds(1)));
+
+        // 처음에는 발행하지 않고 DB의 예약 시각으로 다시 등록한 뒤, 그 시각이 지나면 발행
+        verify(postRepository, timeout(2000)).publishDue(eq(List.of(1L)), any());
+        verify(postRepository, times(2)).findPendingPublishesByIdIn(List.of(1L));
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    void publish_retriesAfterFailure() {
+        PendingPublish due = new PendingPublish(1L, LocalDateTime.now().minusMinutes(1));
+        when(postRepository.findPendingPublishes()).thenReturn(List.of());
+        when(postRepository.findPendingPublishesByIdIn(List.of(1L)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of(due));
+        scheduler.start();
+
+        scheduler.onPostScheduled(new PostScheduledEvent(1L, due.publishAt()));
+
+        verify(postRepository, timeout(2000)).publishDue(eq(List.of(1L)), any());
+        verify(postRepository, times(2)).findPendingPublishesByIdIn(List.of(1L));
+        verify(eventPublisher, times(1)).publishEvent(new PostsPublishedEvent(List.of(1L)));
+    }
+
+    private double pending() {
+        return meterRegistry.get("post.publish.pending").gauge().value();
+    }
+}
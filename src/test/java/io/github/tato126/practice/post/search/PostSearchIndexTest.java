@@ -0,0 +1,71 @@
+package io.github.tato126.practice.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private final PostSearchIndex index = new PostSearchIndex();
+
+    @Test
+    void search_matchesKoreanBigramsAndEnglishWords() {
+        index.index(1L, "스프링 부트 시작하기", "Spring Boot는 Java 기반의 프레임워크입니다.");
+        index.index(2L, "JPA 기초", "엔티티와 영속성 컨텍스트");
+
+        assertThat(index.search("스프링", 0, 10).postIds()).containsExactly(1L);
+        assertThat(index.search("BOOT", 0, 10).postIds()).containsExactly(1L);
+        assertThat(index.search("영속성", 0, 10).postIds()).containsExactly(2L);
+    }
+
+    @Test
+    void search_ranksTitleMatchesFirstAndPaginates() {
+        index.index(1L, "일상 기록", "오늘은 캐시에 대해 조금 읽었다.");
+        index.index(2L, "캐시 전략", "로컬 캐시와 분산 캐시를 비교한다.");
+        index.index(3L, "회고", "별 내용 없음");
+
+        SearchHits hits = index.search("캐시", 0, 1);
+
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.postIds()).containsExactly(2L);
+        assertThat(index.search("캐시", 1, 1).postIds()).containsExactly(1L);
+    }
+
+    @Test
+    void search_returnsEmptyPageForLargeOffset() {
+        index.index(1L, "캐시 전략", "로컬 캐시");
+
+        SearchHits hits = index.search("캐시", Integer.MAX_VALUE - 5, 20);
+
+        assertThat(hits.total()).isEqualTo(1);
+        assertThat(hits.postIds()).isEmpty();
+    }
+
+    @Test
+    void index_replacesAndRemovesPreviousVersion() {
+        index.index(1L, "old title", "legacy content");
+        index.index(1L, "new title", "fresh content");
+
+        assertThat(index.search("legacy", 0, 10).total()).isZero();
+        assertThat(index.search("fresh", 0, 10).postIds()).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(index.search("fresh", 0, 10).total()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void compaction_keepsRankingAfterManyEdits() {
+        index.index(1L, "캐시 전략", "로컬 캐시와 분산 캐시");
+        index.index(2L, "캐시", "캐시 무효화");
+        for (int version = 0; version < 3000; version++) {
+            index.index(3L, "revision" + version, "draft" + version + " 캐시");
+        }
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("revision10", 0, 10).total()).isZero();
+        assertThat(index.search("revision2999", 0, 10).postIds()).containsExactly(3L);
+        assertThat(index.search("캐시", 0, 10).postIds()).containsExactly(2L, 1L, 3L);
+    }
+}
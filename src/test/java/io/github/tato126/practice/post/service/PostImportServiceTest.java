@@ -0,0 +1,135 @@
+package io.github.tato126.practice.post.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.tato126.practice.common.excetion.login.UserNotFoundException;
+import io.github.tato126.practice.common.excetion.post.InvalidImportPayloadException;
+import io.github.tato126.practice.post.dto.response.PostImportResponse;
+import io.github.tato126.practice.post.entity.Post;
+import io.github.tato126.practice.post.event.PostsImportedEvent;
+import io.github.tato126.practice.post.repository.PostRepository;
+import io.github.tato126.practice.user.entity.User;
+import io.github.tato126.practice.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class PostImportServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Object> events = new ArrayList<>();
+
+    private PostImportService importService;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .email("importer@example.com")
+                .username("importer")
+                .password("encoded")
+                .build()).getId();
+
+        // 청크 크기 2: 세 행이면 두 번째 청크까지 저장
+        importService = new PostImportService(JsonMapper.builder().findAndAddModules().build(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                postRepository, userRepository, entityManager, transactionManager, events::add, 2);
+    }
+
+    @Test
+    void importPosts_readsJsonArrayInChunks() {
+        PostImportResponse response = importService.importPosts(body("""
+                [
+                  {"title": "a", "content": "first", "status": "PUBLISHED"},
+                  {"title": "b", "content": "second"},
+                  {"title": "c", "content": "third", "status": "PUBLISHED"}
+                ]
+                """), userId);
+
+        assertThat(response.imported()).isEqualTo(3);
+        assertThat(response.rejected()).isZero();
+        assertThat(events).hasSize(2).allSatisfy(event -> assertThat(event).isInstanceOf(PostsImportedEvent.class));
+
+        List<Post> posts = postRepository.findAll();
+        assertThat(posts).hasSize(3).allSatisfy(post -> assertThat(post.getAuthor().getId()).isEqualTo(userId));
+        assertThat(posts).filteredOn(post -> post.getStatus() == Post.PostStatus.DRAFT).hasSize(1);
+    }
+
+    @Test
+    void importPosts_readsNdjsonAndRejectsInvalidRows() {
+        PostImportResponse response = importService.importPosts(body("""
+                {"title": "a", "content": "first"}
+                {"title": "", "content": "blank title"}
+                {"title": "c", "content": "third"}
+                """), userId);
+
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(postRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void importPosts_rejectsRowWithBadFieldValueAndKeepsReading() {
+        PostImportResponse response = importService.importPosts(body("""
+                {"title": "a", "content": "first", "status": "ARCHIVED"}
+                {"title": "b", "content": "second", "status": "PUBLISHED"}
+                """), userId);
+
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(postRepository.findAll()).extracting(Post::getTitle).containsExactly("b");
+    }
+
+    @Test
+    void importPosts_abortsOnSyntaxErrorAndReportsCommittedRows() {
+        // 첫 청크(2건)는 저장되고, 오류 직전의 세 번째 행은 청크가 차지 않아 저장되지 않는다
+        assertThatThrownBy(() -> importService.importPosts(body("""
+                {"title": "a", "content": "first"}
+                {"title": "b", "content": "second"}
+                {"title": "c", "content": "third"}
+                {"title": "d", "content":
+                """), userId))
+                .isInstanceOf(InvalidImportPayloadException.class)
+                .hasMessageContaining("2건");
+
+        assertThat(postRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void importPosts_rejectsDeletedAuthor() {
+        assertThatThrownBy(() -> importService.importPosts(body("""
+                {"title": "a", "content": "first"}
+                """), userId + 1000))
+                .isInstanceOf(UserNotFoundException.class);
+
+        assertThat(postRepository.count()).isZero();
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
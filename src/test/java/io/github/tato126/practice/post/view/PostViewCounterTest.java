@@ -0,0 +1,118 @@
+package io.github.tato126.practice.post.view;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.tato126.practice.config.CacheConfig;
+import io.github.tato126.practice.post.cache.PostResponseCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostViewCounterTest {
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:views-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.POST_DETAIL);
+
+    private PostViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        // 조회수 100 초과를 거절하여 배치 중간의 실패를 재현한다
+        jdbcTemplate.execute("create table post (id bigint primary key, views bigint not null check (views <= 100))");
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("insert into post values (?, 0)", id);
+        }
+
+        PostResponseCache postResponseCache = new PostResponseCache(JsonMapper.builder().findAndAddModules().build(),
+                cacheManager, true, DataSize.ofMegabytes(4), DataSize.ofKilobytes(4), DataSize.ofKilobytes(256));
+        counter = new PostViewCounter(jdbcTemplate, new DataSourceTransactionManager(dataSource), postResponseCache);
+    }
+
+    @Test
+    void flush_appliesAggregatedDeltasInOneBatchAndEvictsDetailCache() {
+        detailCache().put(1L, "cached");
+        for (int i = 0; i < 3; i++) {
+            counter.increment(1L);
+        }
+        counter.increment(2L);
+
+        counter.flush();
+        counter.flush();
+
+        assertThat(views(1L)).isEqualTo(3);
+        assertThat(views(2L)).isEqualTo(1);
+        assertThat(views(3L)).isZero();
+        assertThat(detailCache().get(1L)).isNull();
+    }
+
+    @Test
+    void flush_rollsBackTheWholeBatchAndRetriesDeltasAfterFailure() {
+        jdbcTemplate.update("update post set views = 100 where id = 2");
+        for (int i = 0; i < 3; i++) {
+            counter.increment(1L);
+        }
+        counter.increment(2L);
+
+        // 게시글 2의 UPDATE가 실패하면 먼저 실행된 게시글 1의 UPDATE도 롤백
+        counter.flush();
+        assertThat(views(1L)).isZero();
+
+        // 되돌린 증가분은 다음 반영에서 한 번만 반영
+        jdbcTemplate.update("update post set views = 0 where id = 2");
+        counter.flush();
+        assertThat(views(1L)).isEqualTo(3);
+        assertThat(views(2L)).isEqualTo(1);
+    }
+
+    @Test
+    void flush_collectsIncrementsThatLandOnARetiredCounter() {
+        counter.increment(1L);
+        LongAdder stale = pending().get(1L);
+
+        // 반영 후 다음 주기에 증가분이 없으면 맵에서 제거 (retired)
+        counter.flush();
+        counter.flush();
+        assertThat(pending()).doesNotContainKey(1L);
+
+        // 제거 직전에 카운터를 얻은 요청의 증가분
+        stale.increment();
+        counter.flush();
+
+        assertThat(views(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void flushOnShutdown_appliesRemainingDeltas() {
+        counter.increment(3L);
+
+        counter.flushOnShutdown();
+
+        assertThat(views(3L)).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, LongAdder> pending() {
+        return (Map<Long, LongAdder>) ReflectionTestUtils.getField(counter, "pending");
+    }
+
+    private Cache detailCache() {
+        return cacheManager.getCache(CacheConfig.POST_DETAIL);
+    }
+
+    private long views(long id) {
+        return jdbcTemplate.queryForObject("select views from post where id = ?", Long.class, id);
+    }
+}
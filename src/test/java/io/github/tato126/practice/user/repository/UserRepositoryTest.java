@@ -0,0 +1,101 @@
+package io.github.tato126.practice.user.repository;
+
+import io.github.tato126.practice.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시는 커밋된 데이터만 담으므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryTest {
+
+    private static final String EMAIL = "cached@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = new TransactionTemplate(transactionManager).execute(status -> userRepository.save(User.builder()
+                .email(EMAIL)
+                .username("cached")
+                .password("encoded")
+                .build()).getId());
+
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void findByEmail_repeatedLookupsIssueNoStatements() {
+        assertThat(userRepository.findByEmail(EMAIL)).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isPositive();
+
+        statistics.clear();
+        for (int i = 0; i < 3; i++) {
+            assertThat(userRepository.findByEmail(EMAIL)).get()
+                    .extracting(User::getId).isEqualTo(userId);
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(3);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void findById_repeatedLookupsIssueNoStatements() {
+        assertThat(userRepository.findById(userId)).isPresent();
+
+        statistics.clear();
+        for (int i = 0; i < 3; i++) {
+            assertThat(userRepository.findById(userId)).isPresent();
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void changePassword_replacesCachedEntryOnCommit() {
+        assertThat(userRepository.findByEmail(EMAIL)).isPresent();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = userRepository.findByEmail(EMAIL).orElseThrow();
+            user.changePassword("rehashed");
+        });
+
+        statistics.clear();
+        assertThat(userRepository.findByEmail(EMAIL)).get()
+                .extracting(User::getPassword).isEqualTo("rehashed");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}